@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.oracle.coherence.hibernate.cache.v53.configuration.support.CoherenceHibernateProperties;
+import com.tangosol.net.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The registry of the Coherence {@link Session}s shared by the {@link CoherenceRegionFactory}s of this JVM, keyed by
+ * session name and cache configuration. A shared Session is created by the first region factory acquiring it, along
+ * with the cluster membership and cache server it depends on, and is shut down by the last region factory releasing
+ * it, so that several SessionFactories share a single cluster connection and its near caches.
+ *
+ * @since 3.0.4
+ * @see CoherenceHibernateProperties#SHARED_SESSION_PROPERTY_NAME
+ */
+final class CoherenceSessionRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoherenceSessionRegistry.class);
+
+    /**
+     * The Registrations of the shared Sessions, keyed by session key.
+     */
+    private static final Map<String, Registration> REGISTRATIONS = new HashMap<>();
+
+    private CoherenceSessionRegistry() {
+    }
+
+    /**
+     * Returns the key of the shared Session of the argument session name and cache configuration.
+     * @param sessionName the name of the Session, or null for the default Session
+     * @param cacheConfigFilePath the path or URI of the cache configuration file
+     * @return the key of the shared Session
+     */
+    static String getKey(String sessionName, String cacheConfigFilePath) {
+        return ((sessionName != null) ? sessionName : "") + "|" + cacheConfigFilePath;
+    }
+
+    /**
+     * Acquires the shared Session of the argument key, creating it if it is not registered yet.
+     * @param key the key of the shared Session
+     * @param registrationSupplier the supplier of the Registration of a new shared Session, which is called while
+     *                             other region factories wait for the Session to be created
+     * @return the shared Session
+     */
+    static synchronized Session acquire(String key, Supplier<Registration> registrationSupplier) {
+        Registration registration = REGISTRATIONS.get(key);
+        if (registration == null) {
+            registration = registrationSupplier.get();
+            REGISTRATIONS.put(key, registration);
+        }
+        registration.referenceCount++;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Acquired shared session '{}', now referenced {} time(s).", key, registration.referenceCount);
+        }
+        return registration.session;
+    }
+
+    /**
+     * Releases the shared Session of the argument key, shutting it down if it is not referenced anymore.
+     * @param key the key of the shared Session
+     * @return a boolean indicating whether the shared Session was shut down
+     */
+    static synchronized boolean release(String key) {
+        final Registration registration = REGISTRATIONS.get(key);
+        if (registration == null) {
+            return false;
+        }
+        if (--registration.referenceCount > 0) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Released shared session '{}', still referenced {} time(s).", key, registration.referenceCount);
+            }
+            return false;
+        }
+        REGISTRATIONS.remove(key);
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Shutting down shared session '{}' released by its last region factory.", key);
+        }
+        registration.shutdown.run();
+        return true;
+    }
+
+    /**
+     * Returns the number of region factories currently referencing the shared Session of the argument key.
+     * @param key the key of the shared Session
+     * @return the number of references, which is 0 if the Session is not registered
+     */
+    static synchronized int getReferenceCount(String key) {
+        final Registration registration = REGISTRATIONS.get(key);
+        return (registration != null) ? registration.referenceCount : 0;
+    }
+
+    /**
+     * The registration of a shared Session.
+     */
+    static final class Registration {
+
+        private final Session session;
+
+        private final Runnable shutdown;
+
+        private int referenceCount;
+
+        /**
+         * Complete constructor.
+         * @param session the shared Session
+         * @param shutdown the shutdown of the Session and of whatever was started along with it
+         */
+        Registration(Session session, Runnable shutdown) {
+            this.session = session;
+            this.shutdown = shutdown;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -7,19 +7,28 @@
 package com.oracle.coherence.hibernate.cache.v53.access;
 
 import java.util.Comparator;
-import java.util.UUID;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.oracle.coherence.hibernate.cache.v53.access.processor.BulkAfterInsertProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.ExpiringProcessor;
 import com.oracle.coherence.hibernate.cache.v53.access.processor.PutFromLoadProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.VersionComparatorRegistry;
 import com.oracle.coherence.hibernate.cache.v53.configuration.support.Assert;
 import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegion;
 import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v53.region.RegionLock;
+import com.tangosol.util.InvocableMap;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.support.AbstractDomainDataRegion;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +61,11 @@ public abstract class AbstractCoherenceEntityDataAccess {
 
     private Comparator<?> versionComparator;
 
+    /**
+     * The id of the version comparator in the {@link VersionComparatorRegistry} of storage members.
+     */
+    private final long versionComparatorId;
+
     /**
      * A sequence number for soft locks acquired by this AbstractCoherenceEntityDataAccess.
      * Monotonically increasing characteristic enforced by usage.
@@ -59,9 +73,16 @@ public abstract class AbstractCoherenceEntityDataAccess {
     private AtomicLong softLockSequenceNumber = new AtomicLong(0L);
 
     /**
-     * A unique identifier of this AbstractCoherenceEntityDataAccess.
+     * A unique identifier of this AbstractCoherenceEntityDataAccess, acquiring soft locks, which is assigned by the
+     * cluster once the CoherenceRegion is available.
+     */
+    private volatile long acquirerId = CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID;
+
+    /**
+     * The cache values of the entities inserted by sessions in bulk insert mode, by session and key, which are yet to
+     * be put into the CoherenceRegion.
      */
-    private UUID uuid = UUID.randomUUID();
+    private final Map<SharedSessionContractImplementor, Map<Object, CoherenceRegionValue>> bulkInserts = new ConcurrentHashMap<>();
 
     /**
      * Complete constructor.
@@ -80,6 +101,7 @@ public abstract class AbstractCoherenceEntityDataAccess {
         this.domainDataRegion = domainDataRegion;
         this.domainDataStorageAccess = domainDataStorageAccess;
         this.versionComparator = versionComparator;
+        this.versionComparatorId = VersionComparatorRegistry.getId(versionComparator);
     }
 
     /**
@@ -102,16 +124,36 @@ public abstract class AbstractCoherenceEntityDataAccess {
         return this.versionComparator;
     }
 
+    /**
+     * Returns the id of the version comparator in the {@link VersionComparatorRegistry} of storage members.
+     * @return the long id of the version comparator
+     */
+    protected long getVersionComparatorId() {
+        return this.versionComparatorId;
+    }
+
     protected CacheKeysFactory getCacheKeysFactory() {
         return ((AbstractDomainDataRegion) this.getRegion()).getEffectiveKeysFactory();
     }
 
     /**
-     * Returns the UUID of this AbstractCoherenceEntityDataAccess.
-     * @return the UUID of this AbstractCoherenceEntityDataAccess
+     * Returns the unique identifier of this AbstractCoherenceEntityDataAccess as an acquirer of soft locks, which is
+     * assigned on first use from a counter held by the cluster.
+     * @return the long acquirer id of this AbstractCoherenceEntityDataAccess, or
+     * {@link CoherenceRegionValue.SoftLock#UNASSIGNED_ACQUIRER_ID} if the CoherenceRegion is not available yet
      */
-    public UUID getUuid() {
-        return this.uuid;
+    public long getAcquirerId() {
+        long id = this.acquirerId;
+        if (id == CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID) {
+            synchronized (this) {
+                id = this.acquirerId;
+                if (id == CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID) {
+                    id = getCoherenceRegion().nextAcquirerId();
+                    this.acquirerId = id;
+                }
+            }
+        }
+        return id;
     }
 
     /**
@@ -130,7 +172,7 @@ public abstract class AbstractCoherenceEntityDataAccess {
         final StringBuilder stringBuilder = new StringBuilder(getClass().getName());
         stringBuilder.append("(");
         stringBuilder.append("coherenceRegion=").append(getCoherenceRegion());
-        stringBuilder.append(", uuid=").append(this.uuid);
+        stringBuilder.append(", acquirerId=").append(this.acquirerId);
         stringBuilder.append(", softLockSequenceNumber=").append(this.softLockSequenceNumber);
         stringBuilder.append(")");
         return stringBuilder.toString();
@@ -140,8 +182,14 @@ public abstract class AbstractCoherenceEntityDataAccess {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getValue({})", key);
         }
+        //cache values of a locked region are read from the database instead
+        if (getCoherenceRegion().isLocked()) {
+            return null;
+        }
         final CoherenceRegionValue cacheValue = (CoherenceRegionValue) getCoherenceRegion().getValue(key);
-        return (cacheValue != null) ? cacheValue.getValue() : null;
+        final Object value = (cacheValue != null) ? cacheValue.getValue() : null;
+        getCoherenceRegion().markPresent(key, value != null);
+        return value;
     }
 
     public boolean putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version) throws CacheException {
@@ -156,9 +204,12 @@ public abstract class AbstractCoherenceEntityDataAccess {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("putFromLoad({}, {}, {}, {})", key, value, version, minimalPutOverride);
         }
+        if (isCertainlyRejectedFromLoad(key, minimalPutOverride, getCoherenceRegion().getRegionLock())) {
+            return false;
+        }
         final CoherenceRegionValue newCacheValue = newCacheValue(value, version);
         final PutFromLoadProcessor processor = new PutFromLoadProcessor(minimalPutOverride, newCacheValue);
-        return (Boolean) getCoherenceRegion().invoke(key, processor);
+        return markPresentIf(key, (Boolean) getCoherenceRegion().invoke(key, withTimeToLive(processor)));
     }
 
     public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) throws CacheException {
@@ -219,6 +270,129 @@ public abstract class AbstractCoherenceEntityDataAccess {
         getCoherenceRegion().evictAll();
     }
 
+    /**
+     * Returns a boolean indicating whether a putFromLoad call at the argument key would certainly be rejected, because
+     * the region is locked, or because minimal puts are in effect and the entry at the argument key is known by this
+     * member to hold a value already. Such calls need not leave this member.
+     * @param key the key at which to put a value
+     * @param minimalPutsInEffect a flag indicating whether "minimal puts" is in effect for Hibernate
+     * @param regionLock the current RegionLock of the region
+     * @return a boolean indicating whether a putFromLoad call at the argument key would certainly be rejected
+     */
+    protected boolean isCertainlyRejectedFromLoad(Object key, boolean minimalPutsInEffect, RegionLock regionLock) {
+        if (regionLock.isLockedAt(getCoherenceRegion().nextTimestamp())) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Skipping putFromLoad({}) as the region is locked.", key);
+            }
+            return true;
+        }
+        if (minimalPutsInEffect && getCoherenceRegion().isKnownPresent(key)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Skipping putFromLoad({}) as the entry is known to be present.", key);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records in the CoherenceRegion that the entry at the argument key holds a value if the argument result is true,
+     * and that it may not otherwise.
+     * @param key the key of the entry
+     * @param result the result of an operation putting a value at the argument key, or null if the CoherenceRegion
+     *               was not available to perform it
+     * @return the argument result, or false if it is null
+     */
+    protected boolean markPresentIf(Object key, Boolean result) {
+        final boolean present = Boolean.TRUE.equals(result);
+        getCoherenceRegion().markPresent(key, present);
+        return present;
+    }
+
+    /**
+     * Buffers the argument cache value of an inserted entity if the argument session is in bulk insert mode, i.e. if
+     * its {@link CoherenceRegion#BULK_INSERT_PROPERTY_NAME} property is true. The cache values buffered for a session
+     * are put into the CoherenceRegion once its transaction completed, by one invocation per cluster member.
+     * @param session the session inserting the entity
+     * @param key the key at which to insert the cache value
+     * @param value the cache value to insert
+     * @return a boolean indicating whether the cache value was buffered
+     */
+    protected boolean bufferBulkInsert(SharedSessionContractImplementor session, Object key, CoherenceRegionValue value) {
+        Map<Object, CoherenceRegionValue> sessionInserts = this.bulkInserts.get(session);
+        if (sessionInserts == null) {
+            if (!isBulkInsertEnabled(session)) {
+                return false;
+            }
+            sessionInserts = new LinkedHashMap<>();
+            this.bulkInserts.put(session, sessionInserts);
+            //runs after the other after transaction completion processes, i.e. after all afterInsert calls
+            ((SessionImplementor) session).getActionQueue().registerProcess(
+                    (success, completedSession) -> flushBulkInserts(completedSession));
+        }
+        sessionInserts.put(key, value);
+        return true;
+    }
+
+    /**
+     * Puts the cache values buffered for the argument session into the CoherenceRegion, if none are present at their
+     * keys.
+     * @param session the session whose buffered cache values to put
+     */
+    protected void flushBulkInserts(SharedSessionContractImplementor session) {
+        final Map<Object, CoherenceRegionValue> sessionInserts = this.bulkInserts.remove(session);
+        if (sessionInserts == null || sessionInserts.isEmpty()) {
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Inserting {} buffered values into {}.", sessionInserts.size(), getCoherenceRegion());
+        }
+        putAllIfAbsent(sessionInserts);
+    }
+
+    /**
+     * Puts the argument cache values into the CoherenceRegion, each if none is present at its key, by one invocation
+     * per cluster member owning some of the keys.
+     * @param cacheValues the cache values to put, by key
+     * @return the number of cache values put
+     */
+    public int putAllIfAbsent(Map<Object, CoherenceRegionValue> cacheValues) {
+        int putCount = 0;
+        for (List<Object> ownedKeys : getCoherenceRegion().groupKeysByOwner(cacheValues.keySet())) {
+            final Map<Object, CoherenceRegionValue> ownedInserts = new LinkedHashMap<>();
+            for (Object key : ownedKeys) {
+                ownedInserts.put(key, cacheValues.get(key));
+            }
+            final Map<?, ?> results = getCoherenceRegion().invokeAll(ownedKeys,
+                    withTimeToLive(new BulkAfterInsertProcessor(ownedInserts)));
+            for (Map.Entry<?, ?> result : results.entrySet()) {
+                if (markPresentIf(result.getKey(), Boolean.TRUE.equals(result.getValue()))) {
+                    putCount++;
+                }
+            }
+        }
+        return putCount;
+    }
+
+    private static boolean isBulkInsertEnabled(SharedSessionContractImplementor session) {
+        if (!(session instanceof SessionImplementor)) {
+            return false;
+        }
+        final Object bulkInsert = ((SessionImplementor) session).getProperties().get(CoherenceRegion.BULK_INSERT_PROPERTY_NAME);
+        return (bulkInsert != null) && Boolean.parseBoolean(bulkInsert.toString());
+    }
+
+    /**
+     * Wraps the argument EntryProcessor, which puts cache values, so as to have them expire after the time-to-live of
+     * the CoherenceRegion, if it has one.
+     * @param processor an EntryProcessor returning Boolean.TRUE if it put a cache value
+     * @return the argument EntryProcessor, or an ExpiringProcessor wrapping it
+     */
+    protected InvocableMap.EntryProcessor withTimeToLive(InvocableMap.EntryProcessor processor) {
+        final long timeToLive = getCoherenceRegion().getTimeToLive();
+        return (timeToLive > 0L) ? new ExpiringProcessor(processor, timeToLive) : processor;
+    }
+
     /**
      * Returns a new cache value with the argument value and version.
      * @param value the value for the new cache value
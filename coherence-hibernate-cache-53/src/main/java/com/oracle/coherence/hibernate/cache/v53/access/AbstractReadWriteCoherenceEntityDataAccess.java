@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -10,11 +10,19 @@ import java.util.Comparator;
 
 import com.oracle.coherence.hibernate.cache.v53.access.processor.AfterInsertProcessor;
 import com.oracle.coherence.hibernate.cache.v53.access.processor.AfterUpdateProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.ExpiredSoftLockFilter;
 import com.oracle.coherence.hibernate.cache.v53.access.processor.GetProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.InvalidateAfterUpdateProcessor;
 import com.oracle.coherence.hibernate.cache.v53.access.processor.ReadWritePutFromLoadProcessor;
 import com.oracle.coherence.hibernate.cache.v53.access.processor.SoftLockItemProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.SoftLockSweepProcessor;
 import com.oracle.coherence.hibernate.cache.v53.access.processor.SoftUnlockItemProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.VersionComparatorRegistry;
+import com.oracle.coherence.hibernate.cache.v53.region.ClusterTimestamper;
 import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v53.region.RegionLock;
+import com.oracle.coherence.hibernate.cache.v53.region.UpdateMode;
+import com.tangosol.net.cache.LocalCache;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -34,6 +42,34 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractReadWriteCoherenceEntityDataAccess.class);
 
+    /**
+     * The initial number of milliseconds to wait before checking again for a cache value being loaded.
+     */
+    private static final long MIN_PENDING_LOAD_BACKOFF = 5L;
+
+    /**
+     * The maximum number of milliseconds to wait before checking again for a cache value being loaded.
+     */
+    private static final long MAX_PENDING_LOAD_BACKOFF = 100L;
+
+    /**
+     * The name of the periodic task sweeping expired soft locks.
+     */
+    private static final String SOFT_LOCK_SWEEP_TASK_NAME = "softLockSweep";
+
+    /**
+     * The maximum number of soft locks whose acquisition time is tracked at once, beyond which the least recently
+     * acquired ones are evicted.
+     */
+    private static final int MAX_TRACKED_SOFT_LOCKS = 10000;
+
+    /**
+     * The times at which the soft locks held by this access strategy were acquired, if their lease duration is adaptive.
+     * Soft locks which are never released, e.g. because their transaction failed, expire after the lock lease duration
+     * in effect when they were acquired, so that they do not crowd out the soft locks still sampled.
+     */
+    private final LocalCache softLockAcquisitionTimes;
+
     /**
      * Complete constructor.
      * @param domainDataRegion must not be null
@@ -43,6 +79,12 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
     AbstractReadWriteCoherenceEntityDataAccess(DomainDataRegion domainDataRegion,
             DomainDataStorageAccess domainDataStorageAccess, Comparator<?> versionComparator) {
         super(domainDataRegion, domainDataStorageAccess, versionComparator);
+        this.softLockAcquisitionTimes = new LocalCache(MAX_TRACKED_SOFT_LOCKS);
+        this.softLockAcquisitionTimes.setEvictionType(LocalCache.EVICTION_POLICY_LRU);
+        final long softLockSweepInterval = getCoherenceRegion().getSoftLockSweepInterval();
+        if (softLockSweepInterval > 0L) {
+            getCoherenceRegion().schedule(SOFT_LOCK_SWEEP_TASK_NAME, this::sweepExpiredSoftLocks, softLockSweepInterval);
+        }
     }
 
     /**
@@ -53,7 +95,50 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("get({})", key);
         }
-        return getCoherenceRegion().invoke(key, new GetProcessor());
+        //cache values of a locked region are read from the database instead
+        if (!getCoherenceRegion().isAvailable() || getCoherenceRegion().isLocked()) {
+            return null;
+        }
+        final long pendingLoadTimeout = getCoherenceRegion().getPendingLoadTimeout();
+        final Object value = (pendingLoadTimeout > 0L) ?
+                getOrAwaitPendingLoad(key, pendingLoadTimeout) :
+                getCoherenceRegion().invoke(key, new GetProcessor());
+        getCoherenceRegion().markPresent(key, value != null);
+        return value;
+    }
+
+    /**
+     * Gets the cache value for the argument key, waiting for it with exponential backoff while another reader is
+     * loading it from the database. Gives up once the argument timeout has elapsed, leaving the caller to load it.
+     * @param key the key of the cache value
+     * @param pendingLoadTimeout the number of milliseconds for which to wait for a pending load
+     * @return the cache value, or null if the caller is to load it from the database
+     */
+    private Object getOrAwaitPendingLoad(Object key, long pendingLoadTimeout) {
+        final long deadline = System.currentTimeMillis() + pendingLoadTimeout;
+        long backoff = MIN_PENDING_LOAD_BACKOFF;
+        while (true) {
+            final Object value = getCoherenceRegion().invoke(key,
+                    new GetProcessor(ClusterTimestamper.toMillis(getCoherenceRegion().nextTimestamp()), pendingLoadTimeout));
+            if (value != GetProcessor.Result.PENDING_LOAD) {
+                return value;
+            }
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0L) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Gave up waiting for the pending load of {} in {}.", key, getCoherenceRegion());
+                }
+                return null;
+            }
+            try {
+                Thread.sleep(Math.min(backoff, remaining));
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            backoff = Math.min(backoff * 2L, MAX_PENDING_LOAD_BACKOFF);
+        }
     }
 
     /**
@@ -66,7 +151,17 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
         }
         final CoherenceRegionValue valueIfAbsent = newCacheValue(null, version);
         final CoherenceRegionValue.SoftLock newSoftLock = newSoftLock();
-        final SoftLockItemProcessor processor = new SoftLockItemProcessor(valueIfAbsent, newSoftLock);
+        if (newSoftLock.getAcquirerId() == CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID) {
+            //the region is not available yet, so that no soft lock is placed; evicting the entry is remembered instead
+            getCoherenceRegion().evict(key);
+            return newSoftLock;
+        }
+        if (getCoherenceRegion().isSoftLockLeaseAdaptive()) {
+            //the lock lease duration may be changed at runtime, so that each soft lock is tracked for its own
+            this.softLockAcquisitionTimes.put(newSoftLock, System.currentTimeMillis(), getCoherenceRegion().getTimeout());
+        }
+        //a placeholder for the soft lock on an absent entry expires after the lock lease duration unless repopulated
+        final SoftLockItemProcessor processor = new SoftLockItemProcessor(valueIfAbsent, newSoftLock, getCoherenceRegion().getTimeout());
         getCoherenceRegion().invoke(key, processor);
         return newSoftLock;
     }
@@ -80,9 +175,29 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("putFromLoad({}, {}, {}, {})", key, value, version, minimalPutOverride);
         }
+        final RegionLock regionLock = getCoherenceRegion().getRegionLock();
+        if (isCertainlyRejectedFromLoad(key, minimalPutOverride, regionLock)) {
+            return false;
+        }
         final CoherenceRegionValue newCacheValue = newCacheValue(value, version);
-        final ReadWritePutFromLoadProcessor processor = new ReadWritePutFromLoadProcessor(minimalPutOverride, this.getCoherenceRegion().nextTimestamp(), newCacheValue, super.getVersionComparator());
-        return (Boolean) getCoherenceRegion().invoke(key, processor);
+        final long txTimestamp = getTransactionStartTimestamp(session);
+        //the region may get locked and unlocked before the processor runs, in which case the storage member rejects
+        //the value for having been loaded before the region was released
+        final long regionLockReleaseTime = regionLock.getReleaseTime();
+        //reference the version comparator by id, and only send it if the storage member does not know it yet,
+        //or if it cannot be referenced by id at all
+        final long versionComparatorId = getVersionComparatorId();
+        final Comparator<?> versionComparator = (versionComparatorId == VersionComparatorRegistry.UNREGISTERED_ID) ? getVersionComparator() : null;
+        final ReadWritePutFromLoadProcessor processor = new ReadWritePutFromLoadProcessor(minimalPutOverride, txTimestamp, regionLockReleaseTime,
+                newCacheValue, versionComparatorId, versionComparator);
+        final Object result = getCoherenceRegion().invoke(key, withTimeToLive(processor));
+        if (result != ReadWritePutFromLoadProcessor.Result.UNKNOWN_VERSION_COMPARATOR) {
+            //a null result means that the region is unavailable, which a retry would not change
+            return markPresentIf(key, (Boolean) result);
+        }
+        final ReadWritePutFromLoadProcessor registeringProcessor = new ReadWritePutFromLoadProcessor(minimalPutOverride, txTimestamp, regionLockReleaseTime,
+                newCacheValue, versionComparatorId, getVersionComparator());
+        return markPresentIf(key, (Boolean) getCoherenceRegion().invoke(key, withTimeToLive(registeringProcessor)));
     }
 
     /**
@@ -93,6 +208,7 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("unlockItem({}, {})", key, lock);
         }
+        recordSoftLockRelease(lock);
         final SoftUnlockItemProcessor processor = new SoftUnlockItemProcessor(lock, getCoherenceRegion().nextTimestamp());
         getCoherenceRegion().invoke(key, processor);
     }
@@ -103,13 +219,18 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
      * 2. org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy.afterInsert(Object key, Object value).
      *
      * The only difference in implementation is that the cache value in a NaturalIdRegion will have a null version object.
+     * If the argument session is in bulk insert mode, the value is buffered to be inserted along with others.
+     * @param session the session inserting the value
      * @param key the key at which to insert a value
      * @param value the value to insert
-     * @return a boolean indicating whether cache contents were modified
+     * @return a boolean indicating whether cache contents were (or are to be) modified
      */
-    protected boolean afterInsert(Object key, CoherenceRegionValue value) {
+    protected boolean afterInsert(SharedSessionContractImplementor session, Object key, CoherenceRegionValue value) {
+        if (bufferBulkInsert(session, key, value)) {
+            return true;
+        }
         final AfterInsertProcessor afterInsertProcessor = new AfterInsertProcessor(value);
-        return (Boolean) getCoherenceRegion().invoke(key, afterInsertProcessor);
+        return markPresentIf(key, (Boolean) getCoherenceRegion().invoke(key, withTimeToLive(afterInsertProcessor)));
     }
 
     /**
@@ -118,15 +239,79 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
      * 2. org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy.afterUpdate(Object key, Object value, SoftLock lock).
      *
      * The only difference in implementation is that the cache value in a NaturalIdRegion will have a null version object.
+     *
+     * If the CoherenceRegion is configured with {@link UpdateMode#INVALIDATE}, the argument value is not sent to the
+     * storage member; the present cache value is invalidated instead. With {@link UpdateMode#DELTA}, the argument
+     * value is sent in full, as the delta is computed by the entity access strategy before calling this method.
      * @param key the key at which to insert a value
      * @param value the value to insert
      * @param softLock the softLock acquired in an earlier lockItem call with the argument key
      * @return a boolean indicating whether cache contents were modified
      */
     protected boolean afterUpdate(Object key, CoherenceRegionValue value, SoftLock softLock) {
+        recordSoftLockRelease(softLock);
         final long timeOfSoftLockRelease = getCoherenceRegion().nextTimestamp();
+        if (UpdateMode.INVALIDATE == getCoherenceRegion().getUpdateMode()) {
+            final InvalidateAfterUpdateProcessor invalidateProcessor = new InvalidateAfterUpdateProcessor(softLock, timeOfSoftLockRelease);
+            return markPresentIf(key, (Boolean) getCoherenceRegion().invoke(key, invalidateProcessor));
+        }
         final AfterUpdateProcessor afterUpdateProcessor = new AfterUpdateProcessor(value, softLock, timeOfSoftLockRelease);
-        return (Boolean) getCoherenceRegion().invoke(key, afterUpdateProcessor);
+        return markPresentIf(key, (Boolean) getCoherenceRegion().invoke(key, withTimeToLive(afterUpdateProcessor)));
+    }
+
+    /**
+     * Releases the soft locks in the CoherenceRegion that expired without being released, e.g. because the application
+     * node that acquired them failed in the middle of a transaction, and invalidates the cache values they were on.
+     * Otherwise these cache values would be cache misses until overwritten.
+     * Regions not used on this member are not swept by it, and a region is swept by one member at a time, the one
+     * holding the lease on the sweep, so that the cache is scanned once per sweep interval across the cluster.
+     */
+    protected void sweepExpiredSoftLocks() {
+        if (!getCoherenceRegion().isNamedCacheAcquired()) {
+            //the region is not used on this member; members using it will sweep it
+            return;
+        }
+        //the lease outlasts the sweep interval, so that its holder renews it before another member takes over
+        if (!getCoherenceRegion().acquireTaskLease(SOFT_LOCK_SWEEP_TASK_NAME, 2L * getCoherenceRegion().getSoftLockSweepInterval())) {
+            return;
+        }
+        try {
+            final long now = getCoherenceRegion().nextTimestamp();
+            final int sweptCount = getCoherenceRegion().invokeAll(new ExpiredSoftLockFilter(now), new SoftLockSweepProcessor(now)).size();
+            if (sweptCount > 0 && LOGGER.isInfoEnabled()) {
+                LOGGER.info("Released expired soft locks on {} entries of {}.", sweptCount, getCoherenceRegion());
+            }
+        }
+        catch (Exception ex) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Unable to sweep expired soft locks from {}.", getCoherenceRegion(), ex);
+            }
+        }
+    }
+
+    /**
+     * Records the time for which the argument soft lock was held in the CoherenceRegion, if it was acquired by this
+     * access strategy and its lease duration is adaptive.
+     * @param softLock a soft lock being released
+     */
+    protected void recordSoftLockRelease(SoftLock softLock) {
+        final Long acquisitionTime = (softLock != null) ? (Long) this.softLockAcquisitionTimes.remove(softLock) : null;
+        if (acquisitionTime != null) {
+            getCoherenceRegion().recordSoftLockDuration(System.currentTimeMillis() - acquisitionTime);
+        }
+    }
+
+    /**
+     * Returns a timestamp prior to the start of the transaction of the argument session, as Hibernate expects of the
+     * transaction timestamp of a putFromLoad call.
+     * @param session the session loading a value, or null if it is unknown
+     * @return the timestamp at which the session started caching in its current transaction, or the current
+     * timestamp if the session is unknown
+     */
+    private long getTransactionStartTimestamp(SharedSessionContractImplementor session) {
+        return (session != null) ?
+                session.getTransactionStartTimestamp() :
+                getCoherenceRegion().nextTimestamp();
     }
 
     /**
@@ -135,7 +320,7 @@ abstract class AbstractReadWriteCoherenceEntityDataAccess extends AbstractCohere
      */
     private CoherenceRegionValue.SoftLock newSoftLock() {
         final long lockExpirationTime = getCoherenceRegion().newSoftLockExpirationTime();
-        return new CoherenceRegionValue.SoftLock(getUuid(), nextSoftLockSequenceNumber(), lockExpirationTime);
+        return new CoherenceRegionValue.SoftLock(getAcquirerId(), nextSoftLockSequenceNumber(), lockExpirationTime);
     }
 
 }
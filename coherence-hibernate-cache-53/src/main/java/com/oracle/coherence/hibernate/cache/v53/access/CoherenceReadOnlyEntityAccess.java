@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,6 +8,7 @@ package com.oracle.coherence.hibernate.cache.v53.access;
 
 import java.util.Comparator;
 
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.AccessType;
@@ -70,8 +71,12 @@ public class CoherenceReadOnlyEntityAccess extends AbstractCoherenceEntityDataAc
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("afterInsert({}, {}, {})", key, value, version);
         }
-        getCoherenceRegion().putValue(key, newCacheValue(value, version));
-        return true;
+        final CoherenceRegionValue cacheValue = newCacheValue(value, version);
+        if (bufferBulkInsert(session, key, cacheValue)) {
+            return true;
+        }
+        getCoherenceRegion().putValue(key, cacheValue);
+        return markPresentIf(key, true);
     }
 
     /**
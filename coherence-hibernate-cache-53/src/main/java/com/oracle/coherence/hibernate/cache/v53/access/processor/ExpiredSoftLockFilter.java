@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.filter.EntryFilter;
+
+/**
+ * An ExpiredSoftLockFilter is an EntryFilter selecting the entries of a second-level cache that hold soft locks
+ * which expired before a given time. It inspects the soft lock state of an entry only, not its cache value.
+ *
+ * @since 3.0.4
+ */
+public class ExpiredSoftLockFilter implements EntryFilter, Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -7016440853263208237L;
+
+    /**
+     * The time before which the soft locks of selected entries expired.
+     */
+    private long time;
+
+    /**
+     * Complete constructor.
+     * @param time the time before which the soft locks of selected entries expired
+     */
+    public ExpiredSoftLockFilter(long time) {
+        this.time = time;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean evaluateEntry(Map.Entry entry) {
+        return entry instanceof InvocableMap.Entry
+                && ((InvocableMap.Entry) entry).isPresent()
+                && SoftLockDecorations.getSoftLockState((InvocableMap.Entry) entry).hasSoftLocksExpiredBefore(this.time);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean evaluate(Object object) {
+        //soft lock state is not held by cache values themselves in partitioned caches
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * An ExpiringProcessor is an EntryProcessor wrapping another one that puts cache values, e.g. a
+ * {@link PutFromLoadProcessor} or an {@link AfterInsertProcessor}, so as to have the cache values it puts expire
+ * after the time-to-live of their region rather than after the expiry delay of the cache configuration.
+ *
+ * The wrapped EntryProcessor is expected to return Boolean.TRUE if and only if it put a cache value holding an
+ * "actual" value. Entries it otherwise modifies, e.g. by merely releasing a soft lock, retain their expiry.
+ *
+ * @since 3.0.4
+ */
+public class ExpiringProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -6127004731528190245L;
+
+    /**
+     * The wrapped EntryProcessor.
+     */
+    private InvocableMap.EntryProcessor processor;
+
+    /**
+     * The number of milliseconds after which the cache values put by the wrapped EntryProcessor expire.
+     */
+    private long timeToLive;
+
+    /**
+     * Complete constructor.
+     * @param processor the EntryProcessor to wrap
+     * @param timeToLive the number of milliseconds after which the cache values put by the wrapped EntryProcessor expire
+     */
+    public ExpiringProcessor(InvocableMap.EntryProcessor processor, long timeToLive) {
+        this.processor = processor;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        final Object result = this.processor.process(entry);
+        if (Boolean.TRUE.equals(result) && entry instanceof BinaryEntry && entry.isPresent()) {
+            ((BinaryEntry) entry).expire(this.timeToLive);
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,7 @@ package com.oracle.coherence.hibernate.cache.v53.access.processor;
 import java.io.Serializable;
 
 import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v53.region.SoftLockState;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.processor.AbstractProcessor;
 
@@ -17,6 +18,11 @@ import com.tangosol.util.processor.AbstractProcessor;
  * for getting an entity in second-level cache.  It returns null if the cache value
  * is soft-locked, thereby forcing Hibernate to read from the database.
  *
+ * If constructed with a pending-load timeout, a GetProcessor missing the cache value places a pending-load marker,
+ * i.e. a placeholder cache value announcing that the value is being loaded from the database, and returns null so
+ * that its caller loads it. Until the loaded value is put or the marker expires, other GetProcessors return
+ * {@link Result#PENDING_LOAD} instead of null, so that their callers can wait for the value rather than load it too.
+ *
  * @author Randy Stafford
  * @author Gunnar Hillert
  */
@@ -27,18 +33,85 @@ public class GetProcessor extends AbstractProcessor implements Serializable {
      */
     private static final long serialVersionUID = 2359701955887239611L;
 
+    /**
+     * The time in milliseconds at which this GetProcessor was issued.
+     */
+    private long timestamp;
+
+    /**
+     * The number of milliseconds for which a pending-load marker placed by this GetProcessor is in effect, or 0 if
+     * this GetProcessor places no pending-load markers.
+     */
+    private long pendingLoadTimeout;
+
+    /**
+     * Default constructor, for a GetProcessor placing no pending-load markers.
+     */
+    public GetProcessor() {
+        this(0L, 0L);
+    }
+
+    /**
+     * Complete constructor.
+     * @param timestamp the time in milliseconds at which this GetProcessor was issued
+     * @param pendingLoadTimeout the number of milliseconds for which a pending-load marker placed by this
+     * GetProcessor is in effect, or 0 if this GetProcessor places no pending-load markers
+     */
+    public GetProcessor(long timestamp, long pendingLoadTimeout) {
+        this.timestamp = timestamp;
+        this.pendingLoadTimeout = pendingLoadTimeout;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Object process(InvocableMap.Entry entry) {
         if (!entry.isPresent()) {
+            if (this.pendingLoadTimeout > 0L) {
+                final CoherenceRegionValue marker = new CoherenceRegionValue(null, null, this.timestamp);
+                marker.setSoftLockState(newPendingLoadState(new SoftLockState()));
+                SoftLockDecorations.setValue(entry, marker);
+            }
+            return null;
+        }
+        //the soft lock state is checked first, so that soft-locked cache values need not be deserialized
+        final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+        if (softLockState.isSoftLocked()) {
             return null;
         }
-        final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
-        if (cacheValue.isSoftLocked()) {
+        if (this.pendingLoadTimeout > 0L && softLockState.isPlaceholder()) {
+            if (softLockState.isPendingLoadAt(this.timestamp)) {
+                return Result.PENDING_LOAD;
+            }
+            //the cache value was invalidated, or a previous load was not put in time; the caller loads it
+            SoftLockDecorations.setSoftLockState(entry, newPendingLoadState(softLockState));
             return null;
         }
-        return cacheValue.getValue();
+        return ((CoherenceRegionValue) entry.getValue()).getValue();
+    }
+
+    /**
+     * Marks the argument SoftLockState as announcing a load pending until the pending-load timeout has elapsed.
+     * @param softLockState the SoftLockState of a placeholder cache value
+     * @return the argument SoftLockState
+     */
+    private SoftLockState newPendingLoadState(SoftLockState softLockState) {
+        softLockState.markPendingLoad(this.timestamp + this.pendingLoadTimeout);
+        if (softLockState.getPlaceholderExpiry() == 0L) {
+            softLockState.setPlaceholderExpiry(this.pendingLoadTimeout);
+        }
+        return softLockState;
+    }
+
+    /**
+     * The results of a GetProcessor other than a cache value or null.
+     */
+    public enum Result {
+
+        /**
+         * The cache value is being loaded from the database by another reader.
+         */
+        PENDING_LOAD
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+
+import com.oracle.coherence.hibernate.cache.v53.region.SoftLockState;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+import org.hibernate.cache.spi.access.SoftLock;
+
+/**
+ * A AbstractReadWriteCoherenceEntityDataAccess.InvalidateAfterUpdateProcessor is an EntryProcessor
+ * responsible for invalidating a value in a second-level cache and releasing the soft lock acquired
+ * on it, as an alternative to {@link AfterUpdateProcessor} that does not require the updated value
+ * to be sent to the storage member.
+ *
+ * The invalidated cache value stays in place, so that a subsequent putFromLoad call can only repopulate
+ * it with a value loaded by a transaction that started after the soft lock was released.
+ *
+ * @since 3.0.4
+ */
+public class InvalidateAfterUpdateProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -6093164271318416502L;
+
+    /**
+     * A SoftLock presumably acquired by a previous lockItem call on the entry being processed.
+     */
+    private SoftLock softLock;
+
+    /**
+     * The potential time at which all locks on the entry being processed were released.
+     */
+    private long timeOfSoftLockRelease;
+
+    /**
+     * Complete constructor.
+     * @param softLock a SoftLock presumably acquired by a previous lockItem call on the entry being processed
+     * @param timeOfSoftLockRelease the potential time at which all locks on the entry being processed were released
+     */
+    public InvalidateAfterUpdateProcessor(SoftLock softLock, long timeOfSoftLockRelease) {
+        this.softLock = softLock;
+        this.timeOfSoftLockRelease = timeOfSoftLockRelease;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        if (entry.isPresent()) {
+            //The present value is stale regardless of whether other Hibernate transactions soft-locked it concurrently,
+            //so we always invalidate it, and leave it to a future putFromLoad call to put a fresh value into cache.
+            //The stale value is discarded without being deserialized, keeping only its soft lock state.
+            final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+            softLockState.releaseSoftLock(this.softLock, this.timeOfSoftLockRelease);
+            SoftLockDecorations.setPlaceholder(entry, softLockState);
+        }
+        return false;
+    }
+}
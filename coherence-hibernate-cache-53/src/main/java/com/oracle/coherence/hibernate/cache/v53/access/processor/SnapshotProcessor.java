@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v53.region.SoftLockState;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * A SnapshotProcessor is an EntryProcessor reading the cache value of an entry for a
+ * {@link com.oracle.coherence.hibernate.cache.v53.region.RegionSnapshot}. Where possible, it returns the cache value
+ * still serialized and stripped of its soft lock decoration, so that taking a snapshot neither deserializes cache
+ * values nor transfers their soft lock state. It returns null for soft-locked entries, which are being updated, and
+ * for placeholder cache values, which hold no actual value.
+ *
+ * @since 3.0.4
+ */
+public class SnapshotProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 4526140139712305860L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        if (!entry.isPresent()) {
+            return null;
+        }
+        if (entry instanceof BinaryEntry) {
+            final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+            if (softLockState.isSoftLocked() || softLockState.isPlaceholder()) {
+                return null;
+            }
+            return ExternalizableHelper.getUndecorated(((BinaryEntry) entry).getBinaryValue());
+        }
+        final Object value = entry.getValue();
+        if (value instanceof CoherenceRegionValue) {
+            final CoherenceRegionValue cacheValue = (CoherenceRegionValue) value;
+            return (cacheValue.isSoftLocked() || cacheValue.getValue() == null) ? null : cacheValue;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * A SoftLockSweepProcessor is an EntryProcessor responsible for releasing soft locks which expired without being
+ * released, e.g. because the application node that acquired them failed in the middle of a transaction, and
+ * returning a boolean indicating whether it did so.
+ *
+ * As the transaction holding an expired soft lock may or may not have updated the database, the cache value is
+ * invalidated along with the release of its expired soft locks, to be repopulated by a subsequent putFromLoad call.
+ *
+ * @since 3.0.4
+ */
+public class SoftLockSweepProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 3313528096521867425L;
+
+    /**
+     * The time before which the soft locks to release expired.
+     */
+    private long time;
+
+    /**
+     * Complete constructor.
+     * @param time the time before which the soft locks to release expired, which is also taken as their time of release
+     */
+    public SoftLockSweepProcessor(long time) {
+        this.time = time;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        if (!entry.isPresent() || !SoftLockDecorations.getSoftLockState(entry).hasSoftLocksExpiredBefore(this.time)) {
+            return false;
+        }
+        final CoherenceRegionValue cacheValue = SoftLockDecorations.getValue(entry);
+        cacheValue.getSoftLockState().releaseSoftLocksExpiredBefore(this.time);
+        cacheValue.invalidate();
+        SoftLockDecorations.setValue(entry, cacheValue);
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.filter.EntryFilter;
+
+/**
+ * A SoftLockedFilter is an EntryFilter selecting the entries of a second-level cache that currently hold soft locks.
+ * It inspects the soft lock state of an entry only, not its cache value, and selects no entries of regions whose cache
+ * values are not {@link CoherenceRegionValue}s, such as query results and update timestamps regions.
+ *
+ * @since 3.0.4
+ */
+public class SoftLockedFilter implements EntryFilter, Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 2817946303857155432L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean evaluateEntry(Map.Entry entry) {
+        if (!(entry instanceof InvocableMap.Entry) || !((InvocableMap.Entry) entry).isPresent()) {
+            return false;
+        }
+        return (entry instanceof BinaryEntry || entry.getValue() instanceof CoherenceRegionValue)
+                && SoftLockDecorations.getSoftLockState((InvocableMap.Entry) entry).isSoftLocked();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean evaluate(Object object) {
+        return object instanceof CoherenceRegionValue && ((CoherenceRegionValue) object).isSoftLocked();
+    }
+}
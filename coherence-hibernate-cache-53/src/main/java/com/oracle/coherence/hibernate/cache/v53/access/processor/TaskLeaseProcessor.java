@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+
+import com.oracle.coherence.hibernate.cache.v53.region.TaskLease;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * A TaskLeaseProcessor is an EntryProcessor acquiring or renewing the {@link TaskLease} on a periodic task over a
+ * region in the region metadata cache, unless another holder holds it. It returns a Boolean indicating whether the
+ * argument holder holds the TaskLease afterwards.
+ *
+ * @since 3.0.4
+ */
+public class TaskLeaseProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 8807147723934650213L;
+
+    /**
+     * The identifier of the holder acquiring the TaskLease.
+     */
+    private String holderId;
+
+    /**
+     * The time at which the TaskLease is acquired.
+     */
+    private long timestamp;
+
+    /**
+     * The duration for which the acquired TaskLease is held, in the units of the timestamp.
+     */
+    private long leaseDuration;
+
+    /**
+     * Complete constructor.
+     * @param holderId the identifier of the holder acquiring the TaskLease
+     * @param timestamp the time at which the TaskLease is acquired
+     * @param leaseDuration the duration for which the TaskLease is to be held, in the units of the timestamp
+     */
+    public TaskLeaseProcessor(String holderId, long timestamp, long leaseDuration) {
+        this.holderId = holderId;
+        this.timestamp = timestamp;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        final TaskLease taskLease = (entry.isPresent() && entry.getValue() instanceof TaskLease) ?
+                (TaskLease) entry.getValue() :
+                new TaskLease(null, 0L);
+        final TaskLease newTaskLease = taskLease.acquire(this.holderId, this.timestamp, this.leaseDuration);
+        if (newTaskLease != taskLease) {
+            entry.setValue(newTaskLease, false);
+        }
+        return newTaskLease.isHeldBy(this.holderId, this.timestamp);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.configuration.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.tangosol.coherence.config.CacheConfig;
+import com.tangosol.coherence.config.CacheMapping;
+import com.tangosol.coherence.config.ResolvableParameterList;
+import com.tangosol.coherence.config.scheme.NearScheme;
+import com.tangosol.coherence.config.scheme.ServiceScheme;
+import com.tangosol.config.expression.Parameter;
+import com.tangosol.config.expression.ParameterResolver;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.ExtensibleConfigurableCacheFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helper class for registering cache mappings with a Coherence cache configuration at runtime, before the caches they
+ * map are ensured.
+ * @since 3.0.4
+ */
+public abstract class CacheMappings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheMappings.class);
+
+    /**
+     * The name of the distributed scheme of the default cache configuration.
+     */
+    public static final String DISTRIBUTED_SCHEME_NAME = "hibernate-second-level-cache-distributed-scheme";
+
+    /**
+     * The name of the near scheme of the default cache configuration.
+     */
+    public static final String NEAR_SCHEME_NAME = "hibernate-second-level-cache-near-scheme";
+
+    /**
+     * The names of the caching schemes of the default cache configuration, which are shared by all regions.
+     */
+    public static final List<String> SHARED_SCHEME_NAMES = Arrays.asList(
+            CacheMappings.DISTRIBUTED_SCHEME_NAME,
+            CacheMappings.NEAR_SCHEME_NAME);
+
+    private CacheMappings() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Maps the cache of the argument name to the caching scheme of the argument name, provided the cache is currently
+     * mapped to one of the {@link #SHARED_SCHEME_NAMES shared caching schemes} by a wildcard mapping, and that the
+     * argument scheme exists. A cache mapped to a near scheme is only remapped to a near scheme. The parameters of the
+     * wildcard mapping are retained. Caches mapped explicitly, or to other schemes, are left alone.
+     * @param cacheFactory the cache factory whose configuration to modify, which is only modified if it is an
+     *                     {@link ExtensibleConfigurableCacheFactory}
+     * @param cacheName the name of the cache to remap, which must not have been ensured yet
+     * @param schemeName the name of the caching scheme to map the cache to
+     * @return a boolean indicating whether the cache was remapped
+     */
+    public static boolean remapSharedCacheMapping(ConfigurableCacheFactory cacheFactory, String cacheName, String schemeName) {
+        return remapSharedCacheMapping(cacheFactory, cacheName, schemeName, null);
+    }
+
+    /**
+     * Maps the cache of the argument name as tuned by the argument RegionCacheSettings, provided the cache is currently
+     * mapped to one of the {@link #SHARED_SCHEME_NAMES shared caching schemes} by a wildcard mapping. The cache is
+     * mapped to the shared near or distributed scheme, as specified by the settings or else as currently mapped, or to
+     * the argument dedicated scheme instead, if given, existing and of the same type. The parameters of the wildcard
+     * mapping are retained unless overridden by the settings. Caches mapped explicitly, or to other schemes, are left
+     * alone, since the explicit configuration of a cache takes precedence over its settings.
+     * @param cacheFactory the cache factory whose configuration to modify, which is only modified if it is an
+     *                     {@link ExtensibleConfigurableCacheFactory}
+     * @param cacheName the name of the cache to remap, which must not have been ensured yet
+     * @param dedicatedSchemeName the name of the caching scheme dedicated to the cache, or null
+     * @param settings the tuning of the cache, or null
+     * @return a boolean indicating whether the cache was remapped
+     */
+    public static boolean remapSharedCacheMapping(ConfigurableCacheFactory cacheFactory, String cacheName,
+                                                  String dedicatedSchemeName, RegionCacheSettings settings) {
+        if (!(cacheFactory instanceof ExtensibleConfigurableCacheFactory)) {
+            return false;
+        }
+        final CacheConfig cacheConfig = ((ExtensibleConfigurableCacheFactory) cacheFactory).getCacheConfig();
+        synchronized (cacheConfig) {
+            final CacheMapping cacheMapping = cacheConfig.getMappingRegistry().findCacheMapping(cacheName);
+            if (cacheMapping == null || !cacheMapping.usesWildcard() || !SHARED_SCHEME_NAMES.contains(cacheMapping.getSchemeName())) {
+                if (settings != null && LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Cache '{}' is mapped explicitly by the cache configuration; its settings {} are ignored.",
+                            cacheName, settings);
+                }
+                return false;
+            }
+            final boolean nearCache = (settings != null && settings.getNearCache() != null) ?
+                    settings.getNearCache() :
+                    cacheConfig.findSchemeBySchemeName(cacheMapping.getSchemeName()) instanceof NearScheme;
+            String schemeName = (nearCache) ? NEAR_SCHEME_NAME : DISTRIBUTED_SCHEME_NAME;
+            if (dedicatedSchemeName != null) {
+                final ServiceScheme dedicatedScheme = cacheConfig.findSchemeBySchemeName(dedicatedSchemeName);
+                if (dedicatedScheme == null) {
+                    if (LOGGER.isWarnEnabled()) {
+                        LOGGER.warn("The cache configuration has no caching scheme '{}'; cache '{}' is mapped to scheme '{}'.",
+                                dedicatedSchemeName, cacheName, schemeName);
+                    }
+                }
+                else if ((dedicatedScheme instanceof NearScheme) == nearCache) {
+                    schemeName = dedicatedSchemeName;
+                }
+            }
+            final Map<String, Object> parameters = (settings != null) ? settings.getSchemeParameters() : Collections.emptyMap();
+            if (schemeName.equals(cacheMapping.getSchemeName()) && parameters.isEmpty()) {
+                return false;
+            }
+            final CacheMapping remappedCacheMapping = new CacheMapping(cacheName, schemeName);
+            remappedCacheMapping.setParameterResolver(getParameterResolver(cacheMapping.getParameterResolver(), parameters));
+            cacheConfig.getMappingRegistry().register(remappedCacheMapping);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Mapped cache '{}' to scheme '{}' with parameters {}.", cacheName, schemeName, parameters);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns a ParameterResolver resolving the argument parameters, and otherwise resolving as the argument
+     * ParameterResolver of the wildcard mapping.
+     * @param wildcardParameterResolver the ParameterResolver of the wildcard mapping
+     * @param parameters the parameters overriding those of the wildcard mapping
+     * @return the ParameterResolver of the remapped cache
+     */
+    private static ParameterResolver getParameterResolver(ParameterResolver wildcardParameterResolver, Map<String, Object> parameters) {
+        if (parameters.isEmpty()) {
+            return wildcardParameterResolver;
+        }
+        final ResolvableParameterList parameterList = new ResolvableParameterList();
+        if (wildcardParameterResolver instanceof ResolvableParameterList) {
+            for (Parameter parameter : (ResolvableParameterList) wildcardParameterResolver) {
+                parameterList.add(parameter);
+            }
+        }
+        parameters.forEach((name, value) -> parameterList.add(new Parameter(name, value)));
+        return parameterList;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+
+/**
+ * A ClusterTimestamper issues strictly increasing timestamps derived from the cluster time, so that the timestamps
+ * issued by different cluster members are comparable regardless of the drift of their local clocks.
+ *
+ * Timestamps are in the units of Hibernate's {@link SimpleTimestamper}, i.e. {@link #ONE_MS} units per millisecond,
+ * as Hibernate expects of {@link org.hibernate.cache.spi.RegionFactory#nextTimestamp()}. The cluster time is read once
+ * per resynchronization interval only, and extended in between by the elapsed {@link System#nanoTime()}, so that a
+ * timestamp costs about as much as a read of the local clock and has sub-millisecond resolution.
+ *
+ * Releases before 3.0.4 issued timestamps in local milliseconds. Soft locks and update timestamps stored in a cache by a
+ * member of such a release are compared against timestamps that are {@link #ONE_MS} times larger, so members of both
+ * releases must not share second-level caches during a rolling upgrade.
+ *
+ * @since 3.0.4
+ */
+public final class ClusterTimestamper {
+
+    /**
+     * The number of timestamp units per millisecond.
+     */
+    public static final long ONE_MS = SimpleTimestamper.ONE_MS;
+
+    /**
+     * The default interval at which the cluster time is read again, in nanoseconds.
+     */
+    static final long DEFAULT_RESYNC_INTERVAL = TimeUnit.SECONDS.toNanos(1L);
+
+    /**
+     * The supplier of the cluster time in milliseconds.
+     */
+    private final LongSupplier clusterTimeMillis;
+
+    /**
+     * The supplier of the monotonic local time in nanoseconds.
+     */
+    private final LongSupplier nanoTime;
+
+    /**
+     * The interval at which the cluster time is read again, in nanoseconds.
+     */
+    private final long resyncInterval;
+
+    /**
+     * The cluster time last read, along with the local time at which it was read.
+     */
+    private volatile Anchor anchor;
+
+    /**
+     * The last timestamp issued.
+     */
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    /**
+     * Constructor for a ClusterTimestamper reading the cluster time from the argument supplier once per second.
+     * @param clusterTimeMillis the supplier of the cluster time in milliseconds
+     */
+    public ClusterTimestamper(LongSupplier clusterTimeMillis) {
+        this(clusterTimeMillis, System::nanoTime, DEFAULT_RESYNC_INTERVAL);
+    }
+
+    /**
+     * Complete constructor.
+     * @param clusterTimeMillis the supplier of the cluster time in milliseconds
+     * @param nanoTime the supplier of the monotonic local time in nanoseconds
+     * @param resyncInterval the interval at which the cluster time is read again, in nanoseconds
+     */
+    ClusterTimestamper(LongSupplier clusterTimeMillis, LongSupplier nanoTime, long resyncInterval) {
+        this.clusterTimeMillis = clusterTimeMillis;
+        this.nanoTime = nanoTime;
+        this.resyncInterval = resyncInterval;
+    }
+
+    /**
+     * Returns the next timestamp, which is greater than all timestamps previously issued by this ClusterTimestamper.
+     * @return the next timestamp
+     */
+    public long next() {
+        final long now = this.nanoTime.getAsLong();
+        Anchor current = this.anchor;
+        if (current == null || now - current.nanoTime >= this.resyncInterval) {
+            current = new Anchor(this.clusterTimeMillis.getAsLong(), now);
+            this.anchor = current;
+        }
+        final long timestamp = current.clusterTimeMillis * ONE_MS + (now - current.nanoTime) * ONE_MS / TimeUnit.MILLISECONDS.toNanos(1L);
+        //a cluster time read behind the extrapolated one must not make timestamps go backwards
+        return this.lastTimestamp.accumulateAndGet(timestamp, (last, next) -> Math.max(last + 1L, next));
+    }
+
+    /**
+     * Returns the argument number of milliseconds in timestamp units.
+     * @param millis a number of milliseconds
+     * @return the number of timestamp units
+     */
+    public static long fromMillis(long millis) {
+        return millis * ONE_MS;
+    }
+
+    /**
+     * Returns the argument timestamp in milliseconds.
+     * @param timestamp a timestamp issued by a ClusterTimestamper
+     * @return the timestamp in milliseconds
+     */
+    public static long toMillis(long timestamp) {
+        return timestamp / ONE_MS;
+    }
+
+    /**
+     * A cluster time along with the local time at which it was read.
+     */
+    private static final class Anchor {
+
+        private final long clusterTimeMillis;
+
+        private final long nanoTime;
+
+        Anchor(long clusterTimeMillis, long nanoTime) {
+            this.clusterTimeMillis = clusterTimeMillis;
+            this.nanoTime = nanoTime;
+        }
+    }
+}
@@ -1,24 +1,66 @@
 /*
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.hibernate.cache.v53.region;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+import com.oracle.coherence.hibernate.cache.v53.CoherenceRegionFactory;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.BulkAfterInsertProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.ExpiringProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.RegionLockProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.SnapshotProcessor;
+import com.oracle.coherence.hibernate.cache.v53.access.processor.TaskLeaseProcessor;
 import com.oracle.coherence.hibernate.cache.v53.configuration.support.Assert;
 import com.oracle.coherence.hibernate.cache.v53.configuration.support.CoherenceHibernateProperties;
+import com.tangosol.io.Serializer;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.cache.CachingMap;
+import com.tangosol.net.cache.ConfigurableCacheMap;
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.NearCache;
+import com.tangosol.net.partition.PartitionSet;
 import com.tangosol.util.Base;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
-import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.ValueManipulator;
+import com.tangosol.util.aggregator.Count;
 import com.tangosol.util.extractor.IdentityExtractor;
 import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.AndFilter;
+import com.tangosol.util.filter.EqualsFilter;
+import com.tangosol.util.filter.GreaterEqualsFilter;
+import com.tangosol.util.filter.LessFilter;
+import com.tangosol.util.filter.NotFilter;
+import com.tangosol.util.filter.PartitionedFilter;
 import com.tangosol.util.processor.ConditionalPut;
 import com.tangosol.util.processor.ConditionalRemove;
 import com.tangosol.util.processor.ExtractorProcessor;
+import com.tangosol.util.processor.NumberIncrementor;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
@@ -59,14 +101,254 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
     public static final int DEFAULT_LOCK_LEASE_DURATION = 60 * 1000;
 
     /**
-    * The lock lease timeout in milliseconds.
+     * The name of the property specifying the minimum lease duration of soft locks, which enables adapting their lease
+     * duration to the observed durations for which they are held, up to the lock lease duration. A value of 0 disables
+     * adaptation, so that soft locks are leased for the lock lease duration.
+     */
+    public static final String MIN_LOCK_LEASE_DURATION_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "min_lock_lease_duration";
+
+    /**
+     * The name of the property specifying the {@link UpdateMode} of read-write regions.
+     */
+    public static final String UPDATE_MODE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "read_write_update_mode";
+
+    /**
+     * The default {@link UpdateMode} of read-write regions.
+     */
+    public static final UpdateMode DEFAULT_UPDATE_MODE = UpdateMode.REPLACE;
+
+    /**
+     * The name of the property specifying the interval at which expired soft locks are swept from read-write regions.
+     * A value of 0 disables sweeping.
+     */
+    public static final String SOFT_LOCK_SWEEP_INTERVAL_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "soft_lock_sweep_interval";
+
+    /**
+     * The name of the property specifying for how long this member remembers that a cache entry holds a value, in order
+     * to skip putFromLoad calls under minimal puts. A value of 0 disables remembering. Evictions by other members do
+     * not reach the remembered entries, so that an entry evicted elsewhere may stay uncached, and be read from the
+     * database by this member, for up to that long.
+     */
+    public static final String MINIMAL_PUTS_PRESENCE_EXPIRY_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "minimal_puts_presence_expiry";
+
+    /**
+     * The default minimal puts presence expiry in milliseconds, which disables remembering, so that only the front map
+     * of a near cache is consulted.
+     */
+    public static final int DEFAULT_MINIMAL_PUTS_PRESENCE_EXPIRY = 0;
+
+    /**
+     * The name of the property specifying for how long a reader of a read-write region missing a cache value is
+     * expected to load it from the database, while concurrent readers wait for it. A value of 0 disables waiting.
+     */
+    public static final String PENDING_LOAD_TIMEOUT_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "pending_load_timeout";
+
+    /**
+     * The prefix of the names of properties specific to a single region, which is followed by the region name.
+     */
+    public static final String REGION_PROPERTY_NAME_PREFIX = PROPERTY_NAME_PREFIX + "region.";
+
+    /**
+     * The name of the setting, specified per region, of the time after which the cache values put into a region expire.
+     */
+    public static final String TIME_TO_LIVE_SETTING_NAME = "time_to_live";
+
+    /**
+     * The name of the setting, specified per region, of whether the read-only entities cached in a region are preloaded
+     * from the database once the SessionFactory is created.
+     */
+    public static final String PRELOAD_SETTING_NAME = "preload";
+
+    /**
+     * The name of the property specifying the number of entities fetched and put at once while preloading regions.
+     */
+    public static final String PRELOAD_BATCH_SIZE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "preload_batch_size";
+
+    /**
+     * The default number of entities fetched and put at once while preloading regions.
+     */
+    public static final int DEFAULT_PRELOAD_BATCH_SIZE = 1000;
+
+    /**
+     * The name of the session property enabling bulk inserts for a Hibernate session. If set to true, the values of
+     * the entities inserted in a transaction are put into their regions at once after the transaction completed.
+     */
+    public static final String BULK_INSERT_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "bulk_insert";
+
+    /**
+     * The name of the property specifying the comma-separated names of the regions sharing a single NamedCache, or
+     * "*" for all regions. By default, each region is implemented by a NamedCache of its own.
+     */
+    public static final String MULTIPLEXED_REGIONS_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "multiplexed_regions";
+
+    /**
+     * The name of the property specifying the name of the NamedCache shared by multiplexed regions.
+     */
+    public static final String MULTIPLEXED_CACHE_NAME_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "multiplexed_cache_name";
+
+    /**
+     * The default name of the NamedCache shared by multiplexed regions.
+     */
+    public static final String DEFAULT_MULTIPLEXED_CACHE_NAME = "multiplexed-regions";
+
+    /**
+     * The name of the property specifying whether regions are invalidated by incrementing their epoch, which is
+     * embedded in the keys of their cache values, rather than by clearing their NamedCache. The cache values of
+     * previous epochs are then removed in the background.
+     */
+    public static final String EPOCH_INVALIDATION_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "epoch_invalidation";
+
+    /**
+     * The name of the property specifying whether regions are locked for the duration of bulk updates and native
+     * queries by a {@link RegionLock} in the region metadata cache. Checking the lock costs a read of the region
+     * metadata cache on every get and putFromLoad, so that it is disabled by default.
+     */
+    public static final String REGION_LOCKING_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "region_locking";
+
+    /**
+     * The suffix of the cache name of a region forming the key of its {@link RegionLock} in the region metadata cache.
+     */
+    private static final String REGION_LOCK_KEY_SUFFIX = "#lock";
+
+    /**
+     * The infix between the cache name of a region and the name of a periodic task forming the key of the
+     * {@link TaskLease} on the task in the region metadata cache.
+     */
+    private static final String TASK_LEASE_KEY_INFIX = "#lease#";
+
+    /**
+     * The key of the counter of soft lock acquirers in the region metadata cache, which is not the cache name of any
+     * region.
+     */
+    private static final String ACQUIRER_COUNTER_KEY = "#acquirers";
+
+    /**
+     * The suffix of the cache name of a region forming the key of the time of its latest invalidation in the region
+     * metadata cache.
+     */
+    private static final String INVALIDATION_KEY_SUFFIX = "#invalidated";
+
+    /**
+     * The number of entries read or written at once while taking or restoring a {@link RegionSnapshot}.
+     */
+    private static final int SNAPSHOT_BATCH_SIZE = 1000;
+
+    /**
+     * The maximum number of keys remembered per region to hold a value.
+     */
+    private static final int MINIMAL_PUTS_PRESENCE_CACHE_SIZE = 10000;
+
+    /**
+     * The maximum number of keys whose writes are remembered while this CoherenceRegion is not available, beyond
+     * which the NamedCache is cleared once it becomes available.
+     */
+    private static final int MAX_UNAVAILABLE_WRITE_COUNT = 10000;
+
+    /**
+     * The marker of keys remembered to have been evicted or invalidated while this CoherenceRegion was not available.
+     */
+    private static final Object EVICTED = new Object();
+
+    /**
+     * The lock lease timeout in milliseconds, which may be changed at runtime.
     */
-    private final int lockLeaseDuration;
+    private volatile int lockLeaseDuration;
+
+    /**
+     * The estimator of the lease duration of soft locks, or null if soft locks are leased for the lock lease duration.
+     */
+    private final SoftLockLeaseEstimator softLockLeaseEstimator;
+
+    /**
+     * The way in which read-write access strategies apply entity updates to this CoherenceRegion.
+     */
+    private final UpdateMode updateMode;
+
+    /**
+     * The interval in milliseconds at which expired soft locks are swept from this CoherenceRegion, or 0 if they are not.
+     */
+    private final long softLockSweepInterval;
+
+    /**
+     * The number of milliseconds for which concurrent readers wait for a cache value being loaded, or 0 if they do not,
+     * which may be changed at runtime.
+     */
+    private volatile long pendingLoadTimeout;
+
+    /**
+     * The number of milliseconds after which the cache values put into this CoherenceRegion expire, or 0 if their
+     * expiry is left to the cache configuration, which may be changed at runtime.
+     */
+    private volatile long timeToLive;
+
+    /**
+     * The periodic tasks scheduled for this CoherenceRegion, by name.
+     */
+    private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+
+    /**
+     * The identifier of this CoherenceRegion as the holder of {@link TaskLease}s, unique across the cluster.
+     */
+    private final String taskLeaseHolderId = UUID.randomUUID().toString();
+
+    /**
+     * The keys recently seen by this member to hold a value, or null if they are not remembered.
+     */
+    private final LocalCache presentKeys;
+
+    /**
+     * The name of the NamedCache implementing this CoherenceRegion.
+     */
+    private final String cacheName;
+
+    /**
+     * The Supplier acquiring the NamedCache implementing this CoherenceRegion on first use.
+     */
+    private final Supplier<NamedCache> namedCacheSupplier;
+
+    /**
+     * The NamedCache implementing this CoherenceRegion, or null if it was not acquired yet.
+     */
+    private volatile NamedCache namedCache;
+
+    /**
+     * The Filter selecting the entries of this CoherenceRegion from the NamedCache shared with other regions, or null
+     * if the NamedCache is not shared.
+     */
+    private final Filter multiplexedRegionFilter;
+
+    /**
+     * A flag indicating whether this CoherenceRegion is invalidated by incrementing its epoch.
+     */
+    private final boolean epochInvalidation;
+
+    /**
+     * A flag indicating whether this CoherenceRegion is locked by a {@link RegionLock} while Hibernate locks it.
+     */
+    private final boolean regionLocking;
+
+    /**
+     * A flag indicating whether the latest check of the {@link RegionLock} of this CoherenceRegion failed, so that
+     * consecutive failures are logged once.
+     */
+    private volatile boolean regionLockCheckFailed;
+
+    /**
+     * The keys written while this CoherenceRegion was not available, mapped to the value put at them or to
+     * {@link #EVICTED}, which are applied to the NamedCache once it becomes available.
+     */
+    private final Map<Object, Object> unavailableWrites = new ConcurrentHashMap<>();
+
+    /**
+     * A flag indicating whether the NamedCache is to be cleared once this CoherenceRegion becomes available.
+     */
+    private volatile boolean clearWhenAvailable;
 
     /**
-     * The NamedCache implementing this CoherenceRegion.
+     * A flag indicating whether the time of the latest invalidation of this CoherenceRegion is recorded in the region
+     * metadata cache, so that a {@link RegionSnapshot} taken before it is not restored.
      */
-    private NamedCache namedCache;
+    private volatile boolean invalidationsRecorded;
 
     private final RegionFactory regionFactory;
 
@@ -77,18 +359,87 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
      * @param properties the properties
      */
     public CoherenceRegion(RegionFactory regionFactory, NamedCache namedCache, Map<String, Object> properties) {
+        this(regionFactory, namedCache, properties, namedCache.getCacheName());
+    }
+
+    /**
+     * Constructs a CoherenceRegion reading the properties specific to the argument region name.
+     * @param regionFactory the region factory
+     * @param namedCache the Coherence NamedCache
+     * @param properties the properties
+     * @param regionName the unqualified name of the region
+     */
+    public CoherenceRegion(RegionFactory regionFactory, NamedCache namedCache, Map<String, Object> properties, String regionName) {
+        this(regionFactory, (namedCache != null) ? namedCache.getCacheName() : null, () -> namedCache, properties, regionName);
+    }
+
+    /**
+     * Constructs a CoherenceRegion acquiring its NamedCache on first use rather than on construction, so that regions
+     * which are never used do not cost the creation of a NamedCache.
+     * @param regionFactory the region factory
+     * @param cacheName the name of the Coherence NamedCache
+     * @param namedCacheSupplier the Supplier acquiring the Coherence NamedCache
+     * @param properties the properties
+     * @param regionName the unqualified name of the region
+     */
+    public CoherenceRegion(RegionFactory regionFactory, String cacheName, Supplier<NamedCache> namedCacheSupplier,
+                           Map<String, Object> properties, String regionName) {
         Assert.notNull(regionFactory, "regionFactory must not be null.");
-        Assert.notNull(namedCache, "namedCache must not be null.");
+        Assert.notNull(cacheName, "namedCache must not be null.");
+        Assert.notNull(namedCacheSupplier, "namedCacheSupplier must not be null.");
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Constructing CoherenceRegion for NamedCache '{}'.", namedCache.getCacheName());
+            LOGGER.debug("Constructing CoherenceRegion for NamedCache '{}'.", cacheName);
         }
         this.lockLeaseDuration = (int) getDurationProperty(
                 properties,
                 LOCK_LEASE_DURATION_PROPERTY_NAME,
                 DEFAULT_LOCK_LEASE_DURATION,
                 Integer.MAX_VALUE);
-        this.namedCache = namedCache;
+        final long minLockLeaseDuration = getDurationProperty(
+                properties,
+                MIN_LOCK_LEASE_DURATION_PROPERTY_NAME,
+                0L,
+                this.lockLeaseDuration);
+        this.softLockLeaseEstimator = (minLockLeaseDuration > 0L) ?
+                new SoftLockLeaseEstimator(minLockLeaseDuration, this.lockLeaseDuration) :
+                null;
+        this.updateMode = getUpdateModeProperty(properties, UPDATE_MODE_PROPERTY_NAME, DEFAULT_UPDATE_MODE);
+        //with adaptive leases, soft locks may expire much sooner than the lock lease duration
+        this.softLockSweepInterval = getDurationProperty(
+                properties,
+                SOFT_LOCK_SWEEP_INTERVAL_PROPERTY_NAME,
+                (minLockLeaseDuration > 0L) ? minLockLeaseDuration : this.lockLeaseDuration,
+                Long.MAX_VALUE);
+        final long minimalPutsPresenceExpiry = getDurationProperty(
+                properties,
+                MINIMAL_PUTS_PRESENCE_EXPIRY_PROPERTY_NAME,
+                DEFAULT_MINIMAL_PUTS_PRESENCE_EXPIRY,
+                Integer.MAX_VALUE);
+        this.presentKeys = (minimalPutsPresenceExpiry > 0L) ?
+                new LocalCache(MINIMAL_PUTS_PRESENCE_CACHE_SIZE, (int) minimalPutsPresenceExpiry) :
+                null;
+        this.pendingLoadTimeout = getDurationProperty(
+                properties,
+                PENDING_LOAD_TIMEOUT_PROPERTY_NAME,
+                0L,
+                this.lockLeaseDuration);
+        this.timeToLive = getDurationProperty(
+                properties,
+                getRegionPropertyName(regionName, TIME_TO_LIVE_SETTING_NAME),
+                0L,
+                Integer.MAX_VALUE);
+        this.cacheName = cacheName;
+        this.namedCacheSupplier = namedCacheSupplier;
+        this.multiplexedRegionFilter = isMultiplexedRegion(properties, regionName) ?
+                new EqualsFilter<>(MultiplexedKey.REGION_NAME_EXTRACTOR, cacheName) :
+                null;
+        //the epochs of regions are held by the region metadata cache of the region factory
+        this.epochInvalidation = regionFactory instanceof CoherenceRegionFactory
+                && Boolean.parseBoolean(String.valueOf(properties.get(EPOCH_INVALIDATION_PROPERTY_NAME)));
+        //so are the locks of regions
+        this.regionLocking = regionFactory instanceof CoherenceRegionFactory
+                && Boolean.parseBoolean(String.valueOf(properties.get(REGION_LOCKING_PROPERTY_NAME)));
         this.regionFactory = regionFactory;
     }
 
@@ -97,7 +448,45 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
      * @return the NamedCache implementing this CoherenceRegion
      */
     protected NamedCache getNamedCache() {
-        return this.namedCache;
+        NamedCache cache = this.namedCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.namedCache;
+                if (cache == null) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Acquiring NamedCache '{}'.", this.cacheName);
+                    }
+                    cache = this.namedCacheSupplier.get();
+                    if (this.epochInvalidation) {
+                        cache.addIndex(getEpochExtractor(), true, null);
+                    }
+                    this.namedCache = cache;
+                }
+            }
+            applyUnavailableWrites();
+        }
+        return cache;
+    }
+
+    /**
+     * Returns a boolean indicating whether this CoherenceRegion is available, which it is unless it is built by a
+     * {@link CoherenceRegionFactory} starting Coherence in the background, which did not complete yet. Until then, this
+     * CoherenceRegion misses: gets return null and puts are not performed. Writes are remembered, and applied once
+     * this CoherenceRegion becomes available, so that other cluster members do not keep serving values written here
+     * meanwhile; puts are repeated, while other writes evict the cache values they would have modified.
+     * @return a boolean indicating whether this CoherenceRegion is available
+     */
+    public boolean isAvailable() {
+        return this.namedCache != null || !(this.regionFactory instanceof CoherenceRegionFactory)
+                || ((CoherenceRegionFactory) this.regionFactory).isCoherenceReady();
+    }
+
+    /**
+     * Returns a boolean indicating whether the NamedCache implementing this CoherenceRegion was acquired yet.
+     * @return a boolean indicating whether the NamedCache implementing this CoherenceRegion was acquired
+     */
+    public boolean isNamedCacheAcquired() {
+        return this.namedCache != null;
     }
 
     @Override
@@ -112,17 +501,64 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
     public String toString() {
         final StringBuilder stringBuilder = new StringBuilder(getClass().getName());
         stringBuilder.append("(");
-        stringBuilder.append(this.namedCache.getCacheName());
+        stringBuilder.append(this.cacheName);
         stringBuilder.append(")");
         return stringBuilder.toString();
     }
 
+    /**
+     * Returns a new id for an acquirer of soft locks, unique within the cluster. The id is drawn from a counter in the
+     * region metadata cache, so that it is unique regardless of whether and when the local member joined the cluster.
+     * @return the long acquirer id, or {@link CoherenceRegionValue.SoftLock#UNASSIGNED_ACQUIRER_ID} if this
+     * CoherenceRegion is not available yet
+     */
+    public long nextAcquirerId() {
+        final NamedCache<String, Object> metadataCache = isAvailable() ? getRegionMetadataCache() : null;
+        if (metadataCache == null) {
+            return CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID;
+        }
+        //NumberIncrementor requires the counter to be present
+        metadataCache.putIfAbsent(ACQUIRER_COUNTER_KEY, CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID);
+        return (Long) metadataCache.invoke(ACQUIRER_COUNTER_KEY, new NumberIncrementor((ValueManipulator) null, 1L, false));
+    }
+
     /**
      * Computes and returns the expiration time for a new soft lock.
      * @return a long representing the expiration time for a new soft lock
      */
     public long newSoftLockExpirationTime() {
-        return nextTimestamp() + getTimeout();
+        return nextTimestamp() + ClusterTimestamper.fromMillis(getSoftLockLease());
+    }
+
+    /**
+     * Returns the lease duration of new soft locks, which is the lock lease duration unless it is adapted to the
+     * observed durations for which soft locks are held. An adapted lease never exceeds the lock lease duration.
+     * @return the lease duration of new soft locks in milliseconds
+     */
+    public long getSoftLockLease() {
+        return (this.softLockLeaseEstimator != null) ?
+                Math.min(this.softLockLeaseEstimator.getLease(), getTimeout()) :
+                getTimeout();
+    }
+
+    /**
+     * Returns a boolean indicating whether the lease duration of soft locks is adapted to the observed durations for
+     * which they are held, which are then to be recorded by {@link #recordSoftLockDuration(long)}.
+     * @return a boolean indicating whether the lease duration of soft locks is adaptive
+     */
+    public boolean isSoftLockLeaseAdaptive() {
+        return this.softLockLeaseEstimator != null;
+    }
+
+    /**
+     * Records the duration for which a soft lock on this CoherenceRegion was held, i.e. the time between its
+     * acquisition and release. Has no effect unless the lease duration of soft locks is adaptive.
+     * @param duration the duration in milliseconds
+     */
+    public void recordSoftLockDuration(long duration) {
+        if (this.softLockLeaseEstimator != null) {
+            this.softLockLeaseEstimator.record(duration);
+        }
     }
 
     /**
@@ -131,9 +567,12 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
      * @return the CoherenceRegionValue at the argument key in this CoherenceRegion
      */
     public Object getValue(Object key) {
+        if (!isAvailable()) {
+            return null;
+        }
         //don't use an EntryProcessor here, because that precludes near cache hits.
         //access strategies with more strict concurrency control requirements call invoke() not getValue().
-        final Object value = getNamedCache().get(key);
+        final Object value = getNamedCache().get(toCacheKey(key));
         return (value != null) ? value : null;
     }
 
@@ -143,7 +582,17 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
      * @param value the value to put
      */
     public void putValue(Object key, Object value) {
-        getNamedCache().invoke(key, new ConditionalPut(AlwaysFilter.INSTANCE, value));
+        if (!isAvailable()) {
+            rememberUnavailableWrite(key, value);
+            return;
+        }
+        final long timeToLive = this.timeToLive;
+        if (timeToLive > 0L) {
+            getNamedCache().put(toCacheKey(key), value, timeToLive);
+        }
+        else {
+            getNamedCache().invoke(toCacheKey(key), new ConditionalPut(AlwaysFilter.INSTANCE, value));
+        }
     }
 
     /**
@@ -151,40 +600,365 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
      * @param key the key of the entry to remove
      */
     public void evict(Object key) {
-        getNamedCache().invoke(key, new ConditionalRemove(AlwaysFilter.INSTANCE));
+        markPresent(key, false);
+        if (!isAvailable()) {
+            rememberUnavailableWrite(key, EVICTED);
+            return;
+        }
+        getNamedCache().invoke(toCacheKey(key), new ConditionalRemove(AlwaysFilter.INSTANCE));
+        recordInvalidation();
     }
 
     /**
      * Evicts all entries from this CoherenceRegion.
      */
     public void evictAll() {
-        getNamedCache().clear();
+        if (this.presentKeys != null) {
+            this.presentKeys.clear();
+        }
+        if (!isAvailable()) {
+            rememberUnavailableClear();
+            return;
+        }
+        clearNamedCache();
+    }
+
+    /**
+     * Returns a boolean indicating whether the entry at the argument key is known by this member to hold a value, in
+     * which case a putFromLoad call under minimal puts would certainly be rejected. Consults the front map of a near
+     * cache, and the keys recently seen by this member to hold a value, but never makes a remote call.
+     *
+     * A false positive only causes a putFromLoad call to be skipped, which is always safe.
+     * @param key the key of the entry
+     * @return a boolean indicating whether the entry at the argument key is known to hold a value
+     */
+    public boolean isKnownPresent(Object key) {
+        final Map<?, ?> frontMap = getFrontMap();
+        if (frontMap != null) {
+            final Object value = frontMap.get(toCacheKey(key));
+            if (value instanceof CoherenceRegionValue && ((CoherenceRegionValue) value).getValue() != null) {
+                return true;
+            }
+        }
+        return this.presentKeys != null && this.presentKeys.containsKey(key);
+    }
+
+    /**
+     * Records whether the entry at the argument key was just seen by this member to hold a value.
+     * @param key the key of the entry
+     * @param present a boolean indicating whether the entry holds a value
+     */
+    public void markPresent(Object key, boolean present) {
+        if (this.presentKeys == null) {
+            return;
+        }
+        if (present) {
+            this.presentKeys.put(key, Boolean.TRUE);
+        }
+        else {
+            this.presentKeys.remove(key);
+        }
     }
 
     /**
-     * Locks the entire cache.
+     * Locks the entire cache, so that its cache values are neither read nor put from load until it is unlocked or the
+     * lock lease duration has elapsed. The {@link RegionLock} is held once in the region metadata cache, so that
+     * locking costs a single request regardless of the size of the cache. Does nothing unless region locking is
+     * enabled.
+     * @see #REGION_LOCKING_PROPERTY_NAME
      */
     public void lockCache() {
-        // will only work as imagined with caches of replicated topology
-        InvocableMapHelper.lockAll(getNamedCache(), getNamedCache().keySet(), 0);
+        final NamedCache<String, Object> metadataCache = (this.regionLocking && isAvailable()) ? getRegionMetadataCache() : null;
+        if (metadataCache == null) {
+            return;
+        }
+        final Object regionLock = metadataCache.invoke(getRegionLockKey(), new RegionLockProcessor(nextTimestamp(), ClusterTimestamper.fromMillis(getTimeout())));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Locked {} with {}.", this, regionLock);
+        }
     }
 
     /**
-     * Unlocks the entire cache.
+     * Unlocks the entire cache, once all holders of its lock released it.
      */
     public void unlockCache() {
-        // will only work as imagined with caches of replicated topology
-        InvocableMapHelper.unlockAll(getNamedCache(), getNamedCache().keySet());
+        final NamedCache<String, Object> metadataCache = (this.regionLocking && isAvailable()) ? getRegionMetadataCache() : null;
+        if (metadataCache == null) {
+            return;
+        }
+        final Object regionLock = metadataCache.invoke(getRegionLockKey(), new RegionLockProcessor(nextTimestamp(), 0L));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Unlocked {} to {}.", this, regionLock);
+        }
+    }
+
+    /**
+     * Returns a boolean indicating whether the entire cache is locked, in which case its cache values are neither to
+     * be read nor put from load.
+     * @return a boolean indicating whether the entire cache is locked
+     * @see #getRegionLock()
+     */
+    public boolean isLocked() {
+        return getRegionLock().isLockedAt(nextTimestamp());
+    }
+
+    /**
+     * Returns the {@link RegionLock} of the entire cache. It is read from the near-cached region metadata cache, so
+     * that this does not usually cost a request to the cluster. As near caches do not cache misses, an
+     * {@link RegionLock#UNLOCKED} RegionLock is put once for a region that was never locked.
+     *
+     * Unless region locking is enabled, the region metadata cache is not read, and the cache is never locked. If the
+     * region metadata cache cannot be read, the cache is considered not locked, so that reads do not fail.
+     * @return the RegionLock of the entire cache
+     * @see #REGION_LOCKING_PROPERTY_NAME
+     */
+    public RegionLock getRegionLock() {
+        if (!this.regionLocking || !isAvailable()) {
+            return RegionLock.UNLOCKED;
+        }
+        final Object regionLock;
+        try {
+            final NamedCache<String, Object> metadataCache = getRegionMetadataCache();
+            if (metadataCache == null) {
+                return RegionLock.UNLOCKED;
+            }
+            regionLock = getRegionMetadata(metadataCache, getRegionLockKey(), RegionLock.UNLOCKED);
+        }
+        catch (RuntimeException ex) {
+            if (!this.regionLockCheckFailed && LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Unable to read the region lock of {}; considering it not locked.", this, ex);
+            }
+            this.regionLockCheckFailed = true;
+            return RegionLock.UNLOCKED;
+        }
+        this.regionLockCheckFailed = false;
+        return (regionLock instanceof RegionLock) ? (RegionLock) regionLock : RegionLock.UNLOCKED;
     }
 
     /**
      * Invoke the argument EntryProcessor on the argument key and return the result of the invocation.
      * @param key the key on which to invoke the EntryProcessor
      * @param entryProcessor the EntryProcessor to invoke.
-     * @return the Object resulting from the EntryProcessor invocation
+     * @return the Object resulting from the EntryProcessor invocation, or null if this CoherenceRegion is not available
      */
     public Object invoke(Object key, InvocableMap.EntryProcessor entryProcessor) {
-        return getNamedCache().invoke(key, entryProcessor);
+        if (!isAvailable()) {
+            //the EntryProcessor might have modified the entry, so evict it once available
+            rememberUnavailableWrite(key, EVICTED);
+            return null;
+        }
+        return getNamedCache().invoke(toCacheKey(key), entryProcessor);
+    }
+
+    /**
+     * Invoke the argument EntryProcessor on the entries matching the argument Filter and return the results of the invocation.
+     * @param filter the Filter selecting the entries on which to invoke the EntryProcessor
+     * @param entryProcessor the EntryProcessor to invoke.
+     * @return the Map of keys to results of the EntryProcessor invocation, which is empty if this CoherenceRegion is
+     * not available
+     */
+    public Map invokeAll(Filter filter, InvocableMap.EntryProcessor entryProcessor) {
+        if (!isAvailable()) {
+            return Collections.emptyMap();
+        }
+        final Filter regionFilter = getRegionFilter();
+        if (regionFilter != null) {
+            return fromCacheKeys(getNamedCache().invokeAll(new AndFilter(regionFilter, filter), entryProcessor));
+        }
+        return getNamedCache().invokeAll(filter, entryProcessor);
+    }
+
+    /**
+     * Invoke the argument EntryProcessor on the argument keys and return the results of the invocation.
+     * @param keys the keys on which to invoke the EntryProcessor
+     * @param entryProcessor the EntryProcessor to invoke.
+     * @return the Map of keys to results of the EntryProcessor invocation, which is empty if this CoherenceRegion is
+     * not available
+     */
+    public Map invokeAll(Collection<?> keys, InvocableMap.EntryProcessor entryProcessor) {
+        if (!isAvailable()) {
+            keys.forEach((key) -> rememberUnavailableWrite(key, EVICTED));
+            return Collections.emptyMap();
+        }
+        if (this.multiplexedRegionFilter != null || this.epochInvalidation) {
+            final long epoch = this.epochInvalidation ? getEpoch() : 0L;
+            final List<Object> cacheKeys = new ArrayList<>(keys.size());
+            keys.forEach((key) -> cacheKeys.add(toCacheKey(key, epoch)));
+            return fromCacheKeys(getNamedCache().invokeAll(cacheKeys, entryProcessor));
+        }
+        return getNamedCache().invokeAll(keys, entryProcessor);
+    }
+
+    /**
+     * Groups the argument keys by the cluster member owning them, so that EntryProcessors carrying data for many keys
+     * can be sent to each member along with the data for its keys only.
+     * @param keys the keys to group
+     * @return the groups of keys, which is a single group if the NamedCache is not partitioned
+     */
+    public Collection<List<Object>> groupKeysByOwner(Collection<?> keys) {
+        final CacheService cacheService = isAvailable() ? getNamedCache().getCacheService() : null;
+        if (!(cacheService instanceof PartitionedService)) {
+            return Collections.singletonList(new ArrayList<>(keys));
+        }
+        final long epoch = this.epochInvalidation ? getEpoch() : 0L;
+        final Map<Member, List<Object>> keysByOwner = new HashMap<>();
+        for (Object key : keys) {
+            keysByOwner.computeIfAbsent(((PartitionedService) cacheService).getKeyOwner(toCacheKey(key, epoch)), (owner) -> new ArrayList<>()).add(key);
+        }
+        return keysByOwner.values();
+    }
+
+    /**
+     * Schedules the argument task to run periodically for as long as this CoherenceRegion is not destroyed, unless a
+     * task of the same name is already scheduled. Tasks are run by the scheduler of the {@link CoherenceRegionFactory};
+     * with other region factories, no task is scheduled.
+     * @param taskName the name of the task
+     * @param task the task to run
+     * @param period the delay in milliseconds between the end of one run and the start of the next
+     */
+    public void schedule(String taskName, Runnable task, long period) {
+        if (!(getRegionFactory() instanceof CoherenceRegionFactory)) {
+            return;
+        }
+        this.scheduledTasks.computeIfAbsent(taskName, (name) -> {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Scheduling task '{}' of {} every {} milliseconds.", name, this, period);
+            }
+            return ((CoherenceRegionFactory) getRegionFactory()).getScheduler()
+                    .scheduleWithFixedDelay(task, period, period, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * Acquires or renews the {@link TaskLease} of this CoherenceRegion on the periodic task of the argument name, so
+     * that the task is run by a single member of the cluster at a time rather than by every member using this
+     * CoherenceRegion. The TaskLease is held in the region metadata cache, and acquiring it costs a single request
+     * to the cluster; another member takes the task over once this member stopped renewing the lease.
+     * @param taskName the name of the task
+     * @param leaseDuration the duration in milliseconds for which the lease is to be held
+     * @return a boolean indicating whether this CoherenceRegion holds the lease, and is to run the task
+     */
+    public boolean acquireTaskLease(String taskName, long leaseDuration) {
+        if (!isAvailable()) {
+            return false;
+        }
+        final NamedCache<String, Object> metadataCache = getRegionMetadataCache();
+        if (metadataCache == null) {
+            //without a region metadata cache, each member runs the task on its own
+            return true;
+        }
+        final Object acquired = metadataCache.invoke(this.cacheName + TASK_LEASE_KEY_INFIX + taskName,
+                new TaskLeaseProcessor(this.taskLeaseHolderId, nextTimestamp(), ClusterTimestamper.fromMillis(leaseDuration)));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * Has the time of the latest invalidation of this CoherenceRegion recorded in the region metadata cache, whenever
+     * its entries are evicted or it is cleared, so that {@link #restoreSnapshot} discards snapshots whose entries may
+     * have been invalidated since they were taken, e.g. because their read-only entities were deleted.
+     */
+    public void recordInvalidations() {
+        this.invalidationsRecorded = true;
+    }
+
+    /**
+     * Returns whether this member is the only one running the cache service of this CoherenceRegion, so that no other
+     * member can invalidate its entries once this one has shut down.
+     * @return true if no other member runs the cache service of this CoherenceRegion
+     */
+    public boolean isOnlyServiceMember() {
+        return getBackCache().getCacheService().getInfo().getServiceMembers().size() <= 1;
+    }
+
+    /**
+     * Writes a {@link RegionSnapshot} of the current entries of this CoherenceRegion to the argument file. Entries are
+     * read one partition at a time, still serialized, and each page is written to the file before the next one is
+     * read. Soft-locked entries are left out, as they are being updated, as well as entries holding no actual value.
+     * The snapshot time is taken before the entries are read, so that the snapshot is no more recent than any of its
+     * entries.
+     * @param file the snapshot file
+     * @param finalSnapshot whether the snapshot is final, i.e. taken as the last member running the cache service of
+     * this CoherenceRegion shuts down
+     * @return the RegionSnapshot written
+     * @throws IOException if the snapshot file cannot be written
+     * @see #isOnlyServiceMember()
+     */
+    public RegionSnapshot writeSnapshot(Path file, boolean finalSnapshot) throws IOException {
+        final long snapshotTime = nextTimestamp();
+        final NamedCache backCache = getBackCache();
+        final CacheService cacheService = backCache.getCacheService();
+        final int pageCount = (cacheService instanceof PartitionedService) ?
+                ((PartitionedService) cacheService).getPartitionCount() :
+                1;
+        final Iterator<Map<Binary, Binary>> pages = IntStream.range(0, pageCount)
+                .mapToObj((page) -> readSnapshotPage(backCache, page, pageCount))
+                .iterator();
+        return RegionSnapshot.write(file, snapshotTime, finalSnapshot, pages);
+    }
+
+    /**
+     * Restores the entries of the argument {@link RegionSnapshot} into this CoherenceRegion, if it is empty, e.g. after
+     * the cluster was restarted. Entries are read one page at a time and only put where absent, so that members
+     * restoring concurrently do not overwrite values put meanwhile. Restored entries expire after the time-to-live of
+     * this CoherenceRegion, if any. A snapshot taken before the latest invalidation recorded in the region metadata
+     * cache is not restored, as its entries may since have been evicted, e.g. because their entities were deleted.
+     * If no invalidation is recorded, e.g. because the whole cluster was restarted, evictions since the snapshot was
+     * taken are unknown, so that only a final snapshot is restored.
+     * @param snapshot the RegionSnapshot to restore
+     * @return the number of entries restored, which is 0 if this CoherenceRegion is not empty, the snapshot was
+     * taken before its latest invalidation, or no invalidation is recorded and the snapshot is not final
+     * @throws IOException if the snapshot file cannot be read
+     */
+    public long restoreSnapshot(RegionSnapshot snapshot) throws IOException {
+        if (getElementCountInMemory() > 0) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Not restoring the snapshot of {}, which is not empty.", this);
+            }
+            return 0L;
+        }
+        final long latestInvalidation = getLatestInvalidation();
+        if (latestInvalidation == Long.MIN_VALUE && !snapshot.isFinal()) {
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Discarding the snapshot of {}, which is not final while no invalidation of it is recorded.", this);
+            }
+            return 0L;
+        }
+        if (snapshot.getSnapshotTime() < latestInvalidation) {
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Discarding the snapshot of {}, which was taken before the latest invalidation.", this);
+            }
+            return 0L;
+        }
+        final long epoch = this.epochInvalidation ? getEpoch() : 0L;
+        final NamedCache backCache = getBackCache();
+        final Serializer serializer = getSerializer();
+        final long[] restoredCount = {0L};
+        snapshot.forEachPage((page) -> {
+            final Map<Object, CoherenceRegionValue> batch = new HashMap<>();
+            for (Map.Entry<Binary, Binary> entry : page.entrySet()) {
+                batch.put(ExternalizableHelper.fromBinary(entry.getKey(), serializer),
+                        (CoherenceRegionValue) ExternalizableHelper.fromBinary(entry.getValue(), serializer));
+                if (batch.size() >= SNAPSHOT_BATCH_SIZE) {
+                    restoredCount[0] += restoreSnapshotBatch(backCache, batch, epoch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                restoredCount[0] += restoreSnapshotBatch(backCache, batch, epoch);
+            }
+        });
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Restored {} of {} entries of {} from a snapshot.", restoredCount[0], snapshot.size(), this);
+        }
+        return restoredCount[0];
+    }
+
+    /**
+     * Returns the Serializer of the cache service of the NamedCache implementing this CoherenceRegion.
+     * @return the Serializer
+     */
+    public Serializer getSerializer() {
+        return getNamedCache().getCacheService().getSerializer();
     }
 
 
@@ -198,7 +972,7 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getName()");
         }
-        return getNamedCache().getCacheName();
+        return this.cacheName;
     }
 
     /**
@@ -206,11 +980,15 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
      */
     @Override
     public void destroy() throws CacheException {
-        if (!getNamedCache().isReleased()) {
+        this.scheduledTasks.values().forEach((scheduledTask) -> scheduledTask.cancel(false));
+        this.scheduledTasks.clear();
+        final NamedCache cache = this.namedCache;
+        //a NamedCache shared with other regions is released along with the region factory
+        if (cache != null && !cache.isReleased() && this.multiplexedRegionFilter == null) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("destroy()");
             }
-            getNamedCache().release();
+            cache.release();
         }
     }
 
@@ -218,7 +996,10 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("contains({})", key);
         }
-        return getNamedCache().invoke(key, new ExtractorProcessor(IdentityExtractor.INSTANCE)) != null;
+        if (!isAvailable()) {
+            return false;
+        }
+        return getNamedCache().invoke(toCacheKey(key), new ExtractorProcessor(IdentityExtractor.INSTANCE)) != null;
     }
 
     /**
@@ -240,6 +1021,13 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getElementCountInMemory()");
         }
+        if (!isAvailable()) {
+            return 0;
+        }
+        final Filter regionFilter = getRegionFilter();
+        if (regionFilter != null) {
+            return (Integer) getNamedCache().aggregate(regionFilter, new Count());
+        }
         return getNamedCache().size();
     }
 
@@ -256,7 +1044,7 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
 
     /**
      * This method is undocumented in Hibernate javadoc, but seems intended to return the "current" time.
-     * @return a millisecond clock value
+     * @return a strictly increasing cluster time value, in the units of {@link ClusterTimestamper}
      */
     //@Override
     public long nextTimestamp() {
@@ -275,13 +1063,494 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getTimeout()");
         }
-        // Note that this must be the same time units as getTimestamp
+        // Note that this is in milliseconds, which ClusterTimestamper.fromMillis converts to the units of nextTimestamp
         return this.lockLeaseDuration;
     }
 
+    /**
+     * Sets the lock lease duration of this CoherenceRegion, which applies to soft locks acquired subsequently.
+     * @param lockLeaseDuration the lock lease duration in milliseconds
+     * @throws IllegalArgumentException if the argument is not positive
+     */
+    public void setLockLeaseDuration(int lockLeaseDuration) {
+        if (lockLeaseDuration <= 0) {
+            throw new IllegalArgumentException("The lock lease duration must be positive.");
+        }
+        this.lockLeaseDuration = lockLeaseDuration;
+        if (this.pendingLoadTimeout > lockLeaseDuration) {
+            this.pendingLoadTimeout = lockLeaseDuration;
+        }
+    }
+
+    /**
+     * Returns the {@link UpdateMode} used by read-write access strategies when updating entries of this CoherenceRegion.
+     * @return the UpdateMode of this CoherenceRegion
+     */
+    public UpdateMode getUpdateMode() {
+        return this.updateMode;
+    }
+
+    /**
+     * Returns the interval at which expired soft locks are swept from this CoherenceRegion.
+     * @return the interval in milliseconds, or 0 if expired soft locks are not swept
+     */
+    public long getSoftLockSweepInterval() {
+        return this.softLockSweepInterval;
+    }
+
+    /**
+     * Returns for how long readers of this CoherenceRegion wait for a cache value being loaded by another reader.
+     * @return the pending-load timeout in milliseconds, or 0 if readers do not wait
+     */
+    public long getPendingLoadTimeout() {
+        return this.pendingLoadTimeout;
+    }
+
+    /**
+     * Sets for how long readers of this CoherenceRegion wait for a cache value being loaded by another reader, which
+     * is capped at the lock lease duration.
+     * @param pendingLoadTimeout the pending-load timeout in milliseconds, or 0 if readers are not to wait
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    public void setPendingLoadTimeout(long pendingLoadTimeout) {
+        if (pendingLoadTimeout < 0L) {
+            throw new IllegalArgumentException("The pending-load timeout must not be negative.");
+        }
+        this.pendingLoadTimeout = Math.min(pendingLoadTimeout, this.lockLeaseDuration);
+    }
+
+    /**
+     * Returns the time after which the cache values put into this CoherenceRegion expire.
+     * @return the time-to-live in milliseconds, or 0 if the expiry of cache values is left to the cache configuration
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Sets the time after which the cache values subsequently put into this CoherenceRegion expire.
+     * @param timeToLive the time-to-live in milliseconds, or 0 to leave the expiry of cache values to the cache
+     *                   configuration
+     * @throws IllegalArgumentException if the argument is negative or exceeds {@link Integer#MAX_VALUE}
+     */
+    public void setTimeToLive(long timeToLive) {
+        if (timeToLive < 0L || timeToLive > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The time-to-live must be between 0 and " + Integer.MAX_VALUE + " milliseconds.");
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the front map of the NamedCache implementing this CoherenceRegion, if it is a near cache whose front
+     * map can be configured at runtime.
+     * @return the ConfigurableCacheMap front map, or null if there is none
+     */
+    public ConfigurableCacheMap getConfigurableFrontMap() {
+        final Map<?, ?> frontMap = getFrontMap();
+        return (frontMap instanceof ConfigurableCacheMap) ? (ConfigurableCacheMap) frontMap : null;
+    }
+
+    /**
+     * Returns a boolean indicating whether the NamedCache implementing this CoherenceRegion is shared with other
+     * regions, in which case its keys are {@link MultiplexedKey}s.
+     * @return a boolean indicating whether this CoherenceRegion is multiplexed into a shared NamedCache
+     */
+    public boolean isMultiplexed() {
+        return this.multiplexedRegionFilter != null;
+    }
+
+    /**
+     * Returns a boolean indicating whether the argument properties specify the argument region to share a NamedCache
+     * with other regions.
+     * @param properties the properties
+     * @param regionName the unqualified name of the region
+     * @return a boolean indicating whether the argument region is multiplexed into a shared NamedCache
+     * @see #MULTIPLEXED_REGIONS_PROPERTY_NAME
+     */
+    public static boolean isMultiplexedRegion(Map<String, Object> properties, String regionName) {
+        final Object multiplexedRegions = properties.get(MULTIPLEXED_REGIONS_PROPERTY_NAME);
+        if (multiplexedRegions == null) {
+            return false;
+        }
+        for (String multiplexedRegion : multiplexedRegions.toString().split(",")) {
+            if ("*".equals(multiplexedRegion.trim()) || multiplexedRegion.trim().equals(regionName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the unqualified name of the NamedCache shared by multiplexed regions.
+     * @param properties the properties
+     * @return the name of the shared NamedCache
+     * @see #MULTIPLEXED_CACHE_NAME_PROPERTY_NAME
+     */
+    public static String getMultiplexedCacheName(Map<String, Object> properties) {
+        final Object multiplexedCacheName = properties.get(MULTIPLEXED_CACHE_NAME_PROPERTY_NAME);
+        return (multiplexedCacheName != null) ? multiplexedCacheName.toString().trim() : DEFAULT_MULTIPLEXED_CACHE_NAME;
+    }
+
+    /**
+     * Returns the name of the property specifying the argument setting for the argument region only.
+     * @param regionName the unqualified name of the region
+     * @param settingName the name of the setting
+     * @return the name of the region-specific property
+     */
+    public static String getRegionPropertyName(String regionName, String settingName) {
+        return REGION_PROPERTY_NAME_PREFIX + regionName + "." + settingName;
+    }
+
 
     // ---- Internal
 
+    /**
+     * Returns the front map of the NamedCache implementing this CoherenceRegion, if it is a near cache.
+     * @return the front map, or null if the NamedCache is not a near cache
+     */
+    private Map<?, ?> getFrontMap() {
+        if (!isAvailable()) {
+            return null;
+        }
+        final NamedCache cache = getNamedCache();
+        if (cache instanceof CachingMap) {
+            return ((CachingMap<?, ?>) cache).getFrontMap();
+        }
+        try {
+            //unwraps the NamedCache obtained from a Session
+            return ((NearCache<?, ?>) cache.as(NearCache.class)).getFrontMap();
+        }
+        catch (UnsupportedOperationException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the argument page of the entries of this CoherenceRegion for a {@link RegionSnapshot}.
+     * @param backCache the back cache of the NamedCache implementing this CoherenceRegion
+     * @param page the page to read, i.e. the partition if the back cache is partitioned
+     * @param pageCount the number of pages, i.e. the number of partitions if the back cache is partitioned
+     * @return the serialized entries of the page, by serialized region key
+     */
+    private Map<Binary, Binary> readSnapshotPage(NamedCache backCache, int page, int pageCount) {
+        final Filter regionFilter = getRegionFilter();
+        Filter pageFilter = (regionFilter != null) ? regionFilter : AlwaysFilter.INSTANCE;
+        if (backCache.getCacheService() instanceof PartitionedService) {
+            final PartitionSet partitions = new PartitionSet(pageCount);
+            partitions.add(page);
+            pageFilter = new PartitionedFilter(pageFilter, partitions);
+        }
+        final Serializer serializer = getSerializer();
+        final Map<?, ?> results = backCache.invokeAll(pageFilter, new SnapshotProcessor());
+        final Map<Binary, Binary> entries = new HashMap<>(results.size());
+        for (Map.Entry<?, ?> result : results.entrySet()) {
+            final Object value = result.getValue();
+            if (value != null) {
+                entries.put(ExternalizableHelper.toBinary(toRegionKey(result.getKey()), serializer),
+                        (value instanceof Binary) ? (Binary) value : ExternalizableHelper.toBinary(value, serializer));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Inserts the argument batch of entries of a {@link RegionSnapshot} into the argument back cache, each if none is
+     * present at its key.
+     * @param backCache the back cache of the NamedCache implementing this CoherenceRegion
+     * @param batch the cache values to insert, by region key
+     * @param epoch the epoch qualifying the cache keys, or 0 if cache keys are not qualified
+     * @return the number of cache values inserted
+     */
+    private long restoreSnapshotBatch(NamedCache backCache, Map<Object, CoherenceRegionValue> batch, long epoch) {
+        final List<Object> cacheKeys = new ArrayList<>(batch.size());
+        for (Object key : batch.keySet()) {
+            cacheKeys.add(toCacheKey(key, epoch));
+        }
+        final InvocableMap.EntryProcessor processor = new BulkAfterInsertProcessor(new HashMap<>(batch));
+        final Map<?, ?> results = backCache.invokeAll(cacheKeys, (this.timeToLive > 0L) ?
+                new ExpiringProcessor(processor, this.timeToLive) :
+                processor);
+        long insertedCount = 0L;
+        for (Object result : results.values()) {
+            if (Boolean.TRUE.equals(result)) {
+                insertedCount++;
+            }
+        }
+        return insertedCount;
+    }
+
+    /**
+     * Returns the back cache of the NamedCache implementing this CoherenceRegion, if it is a near cache, so that bulk
+     * reads and writes do not churn the front map.
+     * @return the back cache, or the NamedCache itself if it is not a near cache
+     */
+    private NamedCache getBackCache() {
+        final NamedCache cache = getNamedCache();
+        if (cache instanceof NearCache) {
+            return ((NearCache<?, ?>) cache).getBackCache();
+        }
+        try {
+            //unwraps the NamedCache obtained from a Session
+            return ((NearCache<?, ?>) cache.as(NearCache.class)).getBackCache();
+        }
+        catch (UnsupportedOperationException ex) {
+            return cache;
+        }
+    }
+
+    /**
+     * Returns the key in this CoherenceRegion of the argument key in its NamedCache.
+     * @param cacheKey a key in the NamedCache of a CoherenceRegion
+     * @return the argument key, stripped of the qualification by region name and epoch, if any
+     */
+    public static Object toRegionKey(Object cacheKey) {
+        final Object key = (cacheKey instanceof MultiplexedKey) ? ((MultiplexedKey) cacheKey).getKey() : cacheKey;
+        return (key instanceof EpochKey) ? ((EpochKey) key).getKey() : key;
+    }
+
+    /**
+     * Returns a boolean indicating whether this CoherenceRegion is invalidated by incrementing its epoch, rather than
+     * by clearing its NamedCache, in which case its keys are {@link EpochKey}s.
+     * @return a boolean indicating whether this CoherenceRegion is invalidated by epochs
+     */
+    public boolean isEpochInvalidation() {
+        return this.epochInvalidation;
+    }
+
+    /**
+     * Returns the current epoch of this CoherenceRegion.
+     * @return the current epoch, which is 0 until this CoherenceRegion is first invalidated
+     */
+    public long getEpoch() {
+        final NamedCache<String, Object> metadataCache = getRegionMetadataCache();
+        final Object epoch = (metadataCache != null) ? getRegionMetadata(metadataCache, this.cacheName, 0L) : null;
+        return (epoch instanceof Long) ? (Long) epoch : 0L;
+    }
+
+    /**
+     * Returns the NamedCache holding the epochs and locks of regions.
+     * @return the region metadata cache of the region factory, or null if it has none
+     */
+    private NamedCache<String, Object> getRegionMetadataCache() {
+        return (this.regionFactory instanceof CoherenceRegionFactory) ?
+                ((CoherenceRegionFactory) this.regionFactory).ensureRegionMetadataCache() :
+                null;
+    }
+
+    /**
+     * Returns the key of the {@link RegionLock} of this CoherenceRegion in the region metadata cache.
+     * @return the key of the RegionLock
+     */
+    private String getRegionLockKey() {
+        return this.cacheName + REGION_LOCK_KEY_SUFFIX;
+    }
+
+    /**
+     * Returns the value at the argument key of the argument region metadata cache, putting the argument initial value
+     * if it is absent. Absent entries are not near cached, so that every read of an absent entry would be a request
+     * to the cluster.
+     * @param metadataCache the region metadata cache
+     * @param key the key of the metadata
+     * @param initialValue the value of the metadata if it is absent
+     * @return the value of the metadata
+     */
+    private static Object getRegionMetadata(NamedCache<String, Object> metadataCache, String key, Object initialValue) {
+        final Object value = metadataCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        final Object previousValue = metadataCache.putIfAbsent(key, initialValue);
+        return (previousValue != null) ? previousValue : initialValue;
+    }
+
+    /**
+     * Returns the key in the NamedCache of the argument key in this CoherenceRegion.
+     * @param key a key in this CoherenceRegion
+     * @return the argument key, qualified by the current epoch of this CoherenceRegion if it is invalidated by epochs,
+     * and by the name of this CoherenceRegion if its NamedCache is shared
+     */
+    private Object toCacheKey(Object key) {
+        return toCacheKey(key, this.epochInvalidation ? getEpoch() : 0L);
+    }
+
+    /**
+     * Returns the key in the NamedCache of the argument key in this CoherenceRegion at the argument epoch.
+     * @param key a key in this CoherenceRegion
+     * @param epoch the epoch of this CoherenceRegion, which is ignored unless it is invalidated by epochs
+     * @return the argument key, qualified as needed
+     */
+    private Object toCacheKey(Object key, long epoch) {
+        final Object epochKey = this.epochInvalidation ? new EpochKey(epoch, key) : key;
+        return (this.multiplexedRegionFilter != null) ? new MultiplexedKey(this.cacheName, epochKey) : epochKey;
+    }
+
+    /**
+     * Returns the argument Map of results by key in the NamedCache, keyed by key in this CoherenceRegion.
+     * @param results the results of an invocation on the NamedCache
+     * @return the results by key in this CoherenceRegion
+     */
+    private static Map fromCacheKeys(Map<?, ?> results) {
+        final Map<Object, Object> regionResults = new HashMap<>(results.size());
+        for (Map.Entry<?, ?> result : results.entrySet()) {
+            regionResults.put(toRegionKey(result.getKey()), result.getValue());
+        }
+        return regionResults;
+    }
+
+    /**
+     * Returns the ValueExtractor extracting the epoch from the keys of the NamedCache of this CoherenceRegion.
+     * @return the ValueExtractor of epochs
+     */
+    private ValueExtractor<Object, Long> getEpochExtractor() {
+        return (this.multiplexedRegionFilter != null) ? EpochKey.MULTIPLEXED_EPOCH_EXTRACTOR : EpochKey.EPOCH_EXTRACTOR;
+    }
+
+    /**
+     * Returns the Filter selecting the current entries of this CoherenceRegion from its NamedCache.
+     * @return the Filter, or null if all entries of the NamedCache are current entries of this CoherenceRegion
+     */
+    private Filter getRegionFilter() {
+        if (!this.epochInvalidation) {
+            return this.multiplexedRegionFilter;
+        }
+        final Filter epochFilter = new EqualsFilter<>(getEpochExtractor(), getEpoch());
+        return (this.multiplexedRegionFilter != null) ? new AndFilter(this.multiplexedRegionFilter, epochFilter) : epochFilter;
+    }
+
+    /**
+     * Returns the keys in the NamedCache of all entries of this CoherenceRegion.
+     * @return the Set of keys in the NamedCache
+     */
+    private Set getCacheKeys() {
+        final Filter regionFilter = getRegionFilter();
+        return (regionFilter != null) ?
+                getNamedCache().keySet(regionFilter) :
+                getNamedCache().keySet();
+    }
+
+    /**
+     * Invalidates this CoherenceRegion by incrementing its epoch, and removes the entries of previous epochs from its
+     * NamedCache in the background.
+     */
+    private void incrementEpoch() {
+        final NamedCache<String, Object> metadataCache = getRegionMetadataCache();
+        //NumberIncrementor requires the epoch to be present
+        metadataCache.putIfAbsent(this.cacheName, 0L);
+        final long epoch = (Long) metadataCache.invoke(this.cacheName, new NumberIncrementor((ValueManipulator) null, 1L, false));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Invalidated {} by incrementing its epoch to {}.", this, epoch);
+        }
+        final Filter staleFilter = new LessFilter<>(getEpochExtractor(), epoch);
+        getNamedCache().async().invokeAll((this.multiplexedRegionFilter != null) ? new AndFilter(this.multiplexedRegionFilter, staleFilter) : staleFilter,
+                new ConditionalRemove(AlwaysFilter.INSTANCE, false)).whenComplete((ignored, ex) -> {
+                    if (ex != null && LOGGER.isWarnEnabled()) {
+                        LOGGER.warn("Unable to remove the entries of previous epochs from {}.", this, ex);
+                    }
+                });
+    }
+
+    /**
+     * Removes all entries of this CoherenceRegion from its NamedCache, leaving the entries of other regions sharing it.
+     * Regions invalidated by epochs only increment their epoch, leaving the removal of their entries to the background.
+     */
+    private void clearNamedCache() {
+        if (this.epochInvalidation && getRegionMetadataCache() != null) {
+            incrementEpoch();
+        }
+        else if (this.multiplexedRegionFilter != null) {
+            getNamedCache().invokeAll(this.multiplexedRegionFilter, new ConditionalRemove(AlwaysFilter.INSTANCE, false));
+        }
+        else {
+            getNamedCache().clear();
+        }
+        recordInvalidation();
+    }
+
+    /**
+     * Records the current time as the time of the latest invalidation of this CoherenceRegion in the region metadata
+     * cache, if invalidations of this CoherenceRegion are recorded. Members invalidating concurrently never move the
+     * recorded time backwards.
+     */
+    private void recordInvalidation() {
+        final NamedCache<String, Object> metadataCache = this.invalidationsRecorded ? getRegionMetadataCache() : null;
+        if (metadataCache == null) {
+            return;
+        }
+        final long invalidationTime = nextTimestamp();
+        metadataCache.invoke(this.cacheName + INVALIDATION_KEY_SUFFIX,
+                new ConditionalPut(new NotFilter(new GreaterEqualsFilter<>(IdentityExtractor.INSTANCE, invalidationTime)), invalidationTime, false));
+    }
+
+    /**
+     * Returns the time of the latest invalidation of this CoherenceRegion recorded in the region metadata cache.
+     * @return the time of the latest invalidation, in the units of {@link ClusterTimestamper}, or
+     * {@link Long#MIN_VALUE} if none is recorded
+     */
+    private long getLatestInvalidation() {
+        final NamedCache<String, Object> metadataCache = getRegionMetadataCache();
+        final Object invalidationTime = (metadataCache != null) ? metadataCache.get(this.cacheName + INVALIDATION_KEY_SUFFIX) : null;
+        return (invalidationTime instanceof Long) ? (Long) invalidationTime : Long.MIN_VALUE;
+    }
+
+    /**
+     * Remembers the argument write of the argument key while this CoherenceRegion is not available, and applies it
+     * right away if this CoherenceRegion became available meanwhile.
+     * @param key the written key
+     * @param value the value put at the key, or {@link #EVICTED} if the cache value at the key is to be evicted
+     */
+    private void rememberUnavailableWrite(Object key, Object value) {
+        if (this.unavailableWrites.size() < MAX_UNAVAILABLE_WRITE_COUNT || this.unavailableWrites.containsKey(key)) {
+            this.unavailableWrites.put(key, value);
+        }
+        else {
+            rememberUnavailableClear();
+        }
+        if (isAvailable()) {
+            applyUnavailableWrites();
+        }
+    }
+
+    /**
+     * Remembers that the NamedCache is to be cleared once this CoherenceRegion becomes available, superseding the
+     * writes remembered so far.
+     */
+    private void rememberUnavailableClear() {
+        this.clearWhenAvailable = true;
+        this.unavailableWrites.clear();
+        if (isAvailable()) {
+            applyUnavailableWrites();
+        }
+    }
+
+    /**
+     * Applies to the NamedCache the writes remembered while this CoherenceRegion was not available.
+     */
+    private void applyUnavailableWrites() {
+        if (this.clearWhenAvailable) {
+            this.clearWhenAvailable = false;
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Clearing {}, which was written extensively while not available.", this);
+            }
+            clearNamedCache();
+        }
+        if (this.unavailableWrites.isEmpty()) {
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Applying {} writes to {}, which were made while it was not available.", this.unavailableWrites.size(), this);
+        }
+        for (Object key : this.unavailableWrites.keySet()) {
+            final Object value = this.unavailableWrites.remove(key);
+            if (value == EVICTED) {
+                getNamedCache().invoke(toCacheKey(key), new ConditionalRemove(AlwaysFilter.INSTANCE));
+                recordInvalidation();
+            }
+            else if (value != null) {
+                putValue(key, value);
+            }
+        }
+    }
+
     /**
     * Get a duration value in milliseconds from the argument properties or defaults, capped at a maximum value.
     * @param properties the property set containing the property
@@ -295,6 +1564,9 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
         Base.azzert(defaultValue >= 0);
 
         final String propertyValue = (String) properties.get(propertyName);
+        if (propertyValue == null) {
+            return defaultValue;
+        }
         long duration;
         try {
             duration = Base.parseTime(propertyValue);
@@ -317,9 +1589,40 @@ public class CoherenceRegion implements Region, ExtendedStatisticsSupport {
         return duration;
     }
 
+    /**
+     * Get an {@link UpdateMode} from the argument properties or defaults.
+     * @param properties the property set containing the property
+     * @param propertyName the name of the property
+     * @param defaultValue the default value
+     * @return the UpdateMode
+     */
+    protected UpdateMode getUpdateModeProperty(Map<String, Object> properties, String propertyName, UpdateMode defaultValue) {
+        final String propertyValue = (String) properties.get(propertyName);
+        if (propertyValue == null) {
+            return defaultValue;
+        }
+        try {
+            return UpdateMode.valueOf(propertyValue.trim().toUpperCase());
+        }
+        catch (IllegalArgumentException ex) {
+            if (LOGGER.isErrorEnabled()) {
+                LOGGER.error("Error parsing property {}; provided value was " +
+                        "{}; using default of {}.", propertyName, propertyValue, defaultValue);
+            }
+            return defaultValue;
+        }
+    }
+
     @Override
     public void clear() {
-        this.namedCache.clear();
+        if (this.presentKeys != null) {
+            this.presentKeys.clear();
+        }
+        if (!isAvailable()) {
+            rememberUnavailableClear();
+            return;
+        }
+        clearNamedCache();
     }
 
 }
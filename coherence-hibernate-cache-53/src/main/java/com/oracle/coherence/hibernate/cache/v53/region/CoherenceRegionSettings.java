@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.oracle.coherence.hibernate.cache.v53.configuration.support.Assert;
+import com.tangosol.net.cache.ConfigurableCacheMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The MBean exposing the performance parameters of a {@link CoherenceRegion} for change at runtime. It is registered
+ * with the platform MBeanServer under the name returned by {@link #getObjectName(String, String)}.
+ *
+ * @since 3.0.4
+ */
+public class CoherenceRegionSettings implements CoherenceRegionSettingsMBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoherenceRegionSettings.class);
+
+    /**
+     * The domain of the ObjectNames of CoherenceRegionSettings MBeans.
+     */
+    public static final String OBJECT_NAME_DOMAIN = "com.oracle.coherence.hibernate";
+
+    /**
+     * The CoherenceRegion whose parameters this MBean exposes.
+     */
+    private final CoherenceRegion region;
+
+    /**
+     * Complete constructor.
+     * @param region the CoherenceRegion whose parameters to expose
+     */
+    public CoherenceRegionSettings(CoherenceRegion region) {
+        Assert.notNull(region, "region must not be null.");
+        this.region = region;
+    }
+
+    /**
+     * Returns the ObjectName of the CoherenceRegionSettings MBean of the argument region.
+     * @param sessionFactoryName the name or UUID of the SessionFactory the region belongs to
+     * @param cacheName the name of the NamedCache implementing the region
+     * @return the ObjectName of the MBean
+     */
+    public static ObjectName getObjectName(String sessionFactoryName, String cacheName) {
+        try {
+            return new ObjectName(OBJECT_NAME_DOMAIN + ":type=CoherenceRegion"
+                    + ",sessionFactory=" + ObjectName.quote(sessionFactoryName)
+                    + ",name=" + ObjectName.quote(cacheName));
+        }
+        catch (Exception ex) {
+            throw new IllegalArgumentException("Invalid MBean name for region " + cacheName, ex);
+        }
+    }
+
+    /**
+     * Registers a CoherenceRegionSettings MBean for the argument region with the platform MBeanServer. Failures are
+     * logged, since the region is usable regardless.
+     * @param region the CoherenceRegion
+     * @param sessionFactoryName the name or UUID of the SessionFactory the region belongs to
+     * @return the ObjectName of the registered MBean, or null if it was not registered
+     */
+    public static ObjectName register(CoherenceRegion region, String sessionFactoryName) {
+        final ObjectName objectName = getObjectName(sessionFactoryName, region.getName());
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new CoherenceRegionSettings(region), objectName);
+            return objectName;
+        }
+        catch (InstanceAlreadyExistsException ex) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("An MBean named {} is already registered; the settings of region {} are not exposed.",
+                        objectName, region.getName());
+            }
+        }
+        catch (Exception ex) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Unable to register MBean {}.", objectName, ex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Unregisters the MBean of the argument name from the platform MBeanServer, if registered.
+     * @param objectName the ObjectName of the MBean
+     */
+    public static void unregister(ObjectName objectName) {
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            mBeanServer.unregisterMBean(objectName);
+        }
+        catch (InstanceNotFoundException ex) {
+            //already unregistered
+        }
+        catch (Exception ex) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Unable to unregister MBean {}.", objectName, ex);
+            }
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return this.region.getName();
+    }
+
+    @Override
+    public int getLockLeaseDuration() {
+        return this.region.getTimeout();
+    }
+
+    @Override
+    public void setLockLeaseDuration(int lockLeaseDuration) {
+        this.region.setLockLeaseDuration(lockLeaseDuration);
+        logChange("lock lease duration", lockLeaseDuration);
+    }
+
+    @Override
+    public long getSoftLockLease() {
+        return this.region.getSoftLockLease();
+    }
+
+    @Override
+    public long getPendingLoadTimeout() {
+        return this.region.getPendingLoadTimeout();
+    }
+
+    @Override
+    public void setPendingLoadTimeout(long pendingLoadTimeout) {
+        this.region.setPendingLoadTimeout(pendingLoadTimeout);
+        logChange("pending-load timeout", this.region.getPendingLoadTimeout());
+    }
+
+    @Override
+    public long getTimeToLive() {
+        return this.region.getTimeToLive();
+    }
+
+    @Override
+    public void setTimeToLive(long timeToLive) {
+        this.region.setTimeToLive(timeToLive);
+        logChange("time-to-live", timeToLive);
+    }
+
+    @Override
+    public int getNearCacheHighUnits() {
+        final ConfigurableCacheMap frontMap = this.region.getConfigurableFrontMap();
+        return (frontMap != null) ? frontMap.getHighUnits() : -1;
+    }
+
+    @Override
+    public void setNearCacheHighUnits(int highUnits) {
+        if (highUnits < 0) {
+            throw new IllegalArgumentException("The high units must not be negative.");
+        }
+        final ConfigurableCacheMap frontMap = this.region.getConfigurableFrontMap();
+        if (frontMap != null) {
+            frontMap.setHighUnits(highUnits);
+            logChange("near cache high units", highUnits);
+        }
+    }
+
+    @Override
+    public int getNearCacheExpiryDelay() {
+        final ConfigurableCacheMap frontMap = this.region.getConfigurableFrontMap();
+        return (frontMap != null) ? frontMap.getExpiryDelay() : -1;
+    }
+
+    @Override
+    public void setNearCacheExpiryDelay(int expiryDelay) {
+        if (expiryDelay < 0) {
+            throw new IllegalArgumentException("The expiry delay must not be negative.");
+        }
+        final ConfigurableCacheMap frontMap = this.region.getConfigurableFrontMap();
+        if (frontMap != null) {
+            frontMap.setExpiryDelay(expiryDelay);
+            logChange("near cache expiry delay", expiryDelay);
+        }
+    }
+
+    private void logChange(String parameterName, long value) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Changed the {} of region {} to {}.", parameterName, this.region.getName(), value);
+        }
+    }
+}
@@ -1,16 +1,23 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.hibernate.cache.v53.region;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OptionalDataException;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
-import java.util.UUID;
+import java.util.Objects;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.util.ExternalizableHelper;
 
 /**
  * A CoherenceRegion.CoherenceRegionValue is an object representing a value in Hibernate's second-level cache.
@@ -18,7 +25,10 @@ import java.util.UUID;
  * used by Hibernate.
  *
  * It further keeps track of its state with respect to soft-locked-ness, and the number of
- * soft locks currently in effect on it.
+ * soft locks currently in effect on it. In partitioned caches, the entry processors operating on the
+ * cache store that {@link SoftLockState} next to the serialized cache value, so that soft locks can be
+ * acquired and released without touching the cache value. In other caches, e.g. replicated ones, it is
+ * serialized along with the cache value, unless it is empty.
  *
  * @author Randy Stafford
  * @author Gunnar Hillert
@@ -31,19 +41,9 @@ public class CoherenceRegionValue implements Serializable {
     private static final long serialVersionUID = 3748411110362855303L;
 
     /**
-     * A List of SoftLocks added to this cache value.
-     */
-    private List<CoherenceRegionValue.SoftLock> softLocks = new ArrayList<CoherenceRegionValue.SoftLock>();
-
-    /**
-     * The time at which all soft locks in effect on this cache value will have expired.
+     * The state of this cache value with respect to soft locks.
      */
-    private long timeOfSoftLockExpiration = 0L;
-
-    /**
-     * The time at which the last soft lock in effect on this cache value was released.
-     */
-    private long timeOfSoftLockRelease = 0L;
+    private transient SoftLockState softLockState;
 
     /**
      * The "timestamp" of the actual cache value.
@@ -115,7 +115,7 @@ public class CoherenceRegionValue implements Serializable {
         if (this.timestamp != value1.timestamp) {
             return false;
         }
-        if (!this.value.equals(value1.value)) {
+        if (!Objects.equals(this.value, value1.value)) {
             return false;
         }
         if ((this.version != null) ? !this.version.equals(value1.version) : value1.version != null) {
@@ -130,7 +130,7 @@ public class CoherenceRegionValue implements Serializable {
     @Override
     public int hashCode() {
         int result = (int) (this.timestamp ^ (this.timestamp >>> 32));
-        result = 31 * result + this.value.hashCode();
+        result = 31 * result + ((this.value != null) ? this.value.hashCode() : 0);
         result = 31 * result + ((this.version != null) ? this.version.hashCode() : 0);
         return result;
     }
@@ -144,27 +144,36 @@ public class CoherenceRegionValue implements Serializable {
         stringBuilder.append("(value=").append(this.value);
         stringBuilder.append(", version=").append(this.version);
         stringBuilder.append(", timestamp=").append(this.timestamp);
-        stringBuilder.append(", timeOfSoftLockExpiration=").append(this.timeOfSoftLockExpiration);
-        stringBuilder.append(", timeOfSoftLockRelease=").append(this.timeOfSoftLockRelease);
-        stringBuilder.append(", softLocks=(");
-        for (CoherenceRegionValue.SoftLock softLock : this.softLocks) {
-            stringBuilder.append(softLock).append(", ");
-        }
-        if (this.softLocks.size() > 0) {
-            stringBuilder.setLength(stringBuilder.length() - 2);
-        }
-        stringBuilder.append("))");
+        stringBuilder.append(", softLockState=").append(this.softLockState);
+        stringBuilder.append(")");
         return stringBuilder.toString();
     }
 
+    /**
+     * Returns the state of this cache value with respect to soft locks.
+     * @return the SoftLockState of this cache value
+     */
+    public SoftLockState getSoftLockState() {
+        if (this.softLockState == null) {
+            this.softLockState = new SoftLockState();
+        }
+        return this.softLockState;
+    }
+
+    /**
+     * Sets the state of this cache value with respect to soft locks.
+     * @param softLockState the SoftLockState of this cache value
+     */
+    public void setSoftLockState(SoftLockState softLockState) {
+        this.softLockState = softLockState;
+    }
+
     /**
      * Adds a SoftLock to this cache value.
      * @param softLock the SoftLock to add
      */
     public void addSoftLock(CoherenceRegionValue.SoftLock softLock) {
-        this.softLocks.add(softLock);
-        //it stands to reason that the most recently-added SoftLock will have the farthest expiration time
-        this.timeOfSoftLockExpiration = softLock.getExpirationTime();
+        getSoftLockState().addSoftLock(softLock);
     }
 
     /**
@@ -176,12 +185,22 @@ public class CoherenceRegionValue implements Serializable {
      */
     public boolean isReplaceableFromLoad(long txTimestamp, Object replacementVersion, Comparator<Object> versionComparator) {
         return isSoftLocked() ?
-                wereSoftLocksExpiredBefore(txTimestamp) :
+                getSoftLockState().wereSoftLocksExpiredBefore(txTimestamp) :
                 (this.version == null) ?
-                        wereSoftLocksReleasedBefore(txTimestamp) :
+                        getSoftLockState().wereSoftLocksReleasedBefore(txTimestamp) :
                         versionComparator.compare(this.version, replacementVersion) < 0;
     }
 
+    /**
+     * Discards the "actual" value and its "version" from this cache value, while retaining its soft lock state.
+     * An invalidated cache value is a cache miss for readers, and is replaceable from database load once all
+     * soft locks on it were released before the loading transaction started.
+     */
+    public void invalidate() {
+        this.value = null;
+        this.version = null;
+    }
+
     /**
      * Returns a boolean indicating whether this cache value is not currently soft-locked.
      * @return a boolean indicating whether this cache value is not currently soft-locked
@@ -195,7 +214,7 @@ public class CoherenceRegionValue implements Serializable {
      * @return a boolean indicating whether this cache value is currently soft-locked
      */
     public boolean isSoftLocked() {
-        return this.softLocks.size() > 0;
+        return (this.softLockState != null) && this.softLockState.isSoftLocked();
     }
 
     /**
@@ -205,50 +224,62 @@ public class CoherenceRegionValue implements Serializable {
      * @param timeOfRelease the time at which the SoftLock was released
      */
     public void releaseSoftLock(org.hibernate.cache.spi.access.SoftLock softLock, long timeOfRelease) {
-        this.softLocks.remove(softLock);
-        if (isNotSoftLocked()) {
-            this.timeOfSoftLockRelease = timeOfRelease;
-        }
+        getSoftLockState().releaseSoftLock(softLock, timeOfRelease);
     }
 
-
-    // ---- Internal
-
     /**
-     * Returns a boolean indicating whether all soft locks on this cache value were expired before the argument time.
-     * @param someTime the time before which it is asked whether all soft locks were expired
-     * @return a boolean indicating whether all soft locks on this cache value were expired before the argument time
+     * Writes this cache value, followed by its SoftLockState, or null if it is empty.
+     * @param out the stream to write to
+     * @throws IOException if this cache value cannot be written
      */
-    private boolean wereSoftLocksExpiredBefore(long someTime) {
-        return this.timeOfSoftLockExpiration < someTime;
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject((this.softLockState != null && !this.softLockState.isEmpty()) ? this.softLockState : null);
     }
 
     /**
-     * Returns a boolean indicating whether all soft locks on this cache value were released before the argument time.
-     * @param someTime the time before which it is asked whether all soft locks were released
-     * @return a boolean indicating whether all soft locks on this cache value were released before the argument time
+     * Reads this cache value, followed by its SoftLockState, if any.
+     * @param in the stream to read from
+     * @throws IOException if this cache value cannot be read
+     * @throws ClassNotFoundException if the class of a field of this cache value cannot be found
      */
-    private boolean wereSoftLocksReleasedBefore(long someTime) {
-        return this.timeOfSoftLockRelease < someTime;
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        try {
+            this.softLockState = (SoftLockState) in.readObject();
+        }
+        catch (OptionalDataException ex) {
+            //written by a version which did not serialize the SoftLockState
+            if (!ex.eof) {
+                throw ex;
+            }
+        }
     }
 
+
     /**
      * A CoherenceRegion.CoherenceRegionValue.SoftLock is an object representing a "soft lock" on an entry in second-level cache.
      * @author Randy Stafford
      */
-    public static class SoftLock implements Serializable, org.hibernate.cache.spi.access.SoftLock {
+    public static class SoftLock implements Serializable, ExternalizableLite, org.hibernate.cache.spi.access.SoftLock {
+
+        /**
+         * The acquirer id of SoftLocks acquired before their acquirer was assigned an id by the cluster, which are
+         * never placed on cache values.
+         */
+        public static final long UNASSIGNED_ACQUIRER_ID = 0L;
 
         /**
          * An identifier of this class's version for serialization purposes.
          */
-        private static final long serialVersionUID = -1171771458206273933L;
+        private static final long serialVersionUID = -1171771458206273935L;
 
         /**
          * A unique identifier for the component that acquired this SoftLock.  A SoftLock may only be released
          * by the component that acquired it.  In practice this component appears to be a RegionAccessStrategy,
          * which appears to have the same lifecycle as a Hibernate SessionFactory.
          */
-        private UUID acquirerId;
+        private long acquirerId;
 
         /**
          * The time at which this SoftLock expires.
@@ -262,6 +293,12 @@ public class CoherenceRegionValue implements Serializable {
          */
         private long sequenceNumber;
 
+        /**
+         * Default constructor for deserialization purposes.
+         */
+        public SoftLock() {
+        }
+
         /**
          * Complete constructor.
          *
@@ -269,12 +306,20 @@ public class CoherenceRegionValue implements Serializable {
          * @param sequenceNumber the sequenceNumber of this SoftLock with respect to its acquirer
          * @param expirationTime the time at which this SoftLock expires
          */
-        public SoftLock(UUID acquirerId, long sequenceNumber, long expirationTime) {
+        public SoftLock(long acquirerId, long sequenceNumber, long expirationTime) {
             this.acquirerId = acquirerId;
             this.expirationTime = expirationTime;
             this.sequenceNumber = sequenceNumber;
         }
 
+        /**
+         * Returns the unique identifier of the component that acquired this SoftLock.
+         * @return the long acquirer id of this SoftLock
+         */
+        public long getAcquirerId() {
+            return this.acquirerId;
+        }
+
         /**
          * Returns this SoftLock's expiration time.
          * @return the long that is this SoftLock's expiration time
@@ -297,14 +342,7 @@ public class CoherenceRegionValue implements Serializable {
 
             final CoherenceRegionValue.SoftLock softLock = (CoherenceRegionValue.SoftLock) someObject;
 
-            if (this.sequenceNumber != softLock.sequenceNumber) {
-                return false;
-            }
-            if (!this.acquirerId.equals(softLock.acquirerId)) {
-                return false;
-            }
-
-            return true;
+            return this.sequenceNumber == softLock.sequenceNumber && this.acquirerId == softLock.acquirerId;
         }
 
         /**
@@ -312,7 +350,7 @@ public class CoherenceRegionValue implements Serializable {
          */
         @Override
         public int hashCode() {
-            int result = this.acquirerId.hashCode();
+            int result = (int) (this.acquirerId ^ (this.acquirerId >>> 32));
             result = 31 * result + (int) (this.sequenceNumber ^ (this.sequenceNumber >>> 32));
             return result;
         }
@@ -326,7 +364,28 @@ public class CoherenceRegionValue implements Serializable {
             stringBuilder.append("(acquirerId=").append(this.acquirerId);
             stringBuilder.append(", sequenceNumber=").append(this.sequenceNumber);
             stringBuilder.append(", expirationTime=").append(this.expirationTime);
+            stringBuilder.append(")");
             return stringBuilder.toString();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void readExternal(DataInput in) throws IOException {
+            this.acquirerId = ExternalizableHelper.readLong(in);
+            this.sequenceNumber = ExternalizableHelper.readLong(in);
+            this.expirationTime = in.readLong();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void writeExternal(DataOutput out) throws IOException {
+            ExternalizableHelper.writeLong(out, this.acquirerId);
+            ExternalizableHelper.writeLong(out, this.sequenceNumber);
+            out.writeLong(this.expirationTime);
+        }
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StructuredCacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A DisassembledCacheEntry is the value stored in place of an entity cache entry in regions configured with
+ * {@link UpdateMode#DELTA}. It holds the disassembled state of the entity along with its (sub-)class name and
+ * version, so that the changed property slots of an update can be applied to it in the storage member, which could
+ * not construct a Hibernate cache entry from a disassembled state.
+ *
+ * It is converted back to a Hibernate cache entry on the members reading it, through the public
+ * {@link StructuredCacheEntry} API.
+ *
+ * @since 3.0.4
+ */
+public class DisassembledCacheEntry implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -2618053746291044935L;
+
+    /**
+     * The disassembled state of the entity.
+     */
+    private final Serializable[] disassembledState;
+
+    /**
+     * The entity (sub-)class name.
+     */
+    private final String subclass;
+
+    /**
+     * The version of the entity state.
+     */
+    private final Object version;
+
+    /**
+     * Complete constructor.
+     * @param disassembledState the disassembled state of the entity
+     * @param subclass the entity (sub-)class name
+     * @param version the version of the entity state
+     */
+    public DisassembledCacheEntry(Serializable[] disassembledState, String subclass, Object version) {
+        this.disassembledState = disassembledState;
+        this.subclass = subclass;
+        this.version = version;
+    }
+
+    /**
+     * Returns a DisassembledCacheEntry holding the state of the argument Hibernate cache entry.
+     * @param cacheEntry a Hibernate cache entry
+     * @return a DisassembledCacheEntry newly constructed
+     */
+    public static DisassembledCacheEntry of(CacheEntry cacheEntry) {
+        return new DisassembledCacheEntry(cacheEntry.getDisassembledState(), cacheEntry.getSubclass(), cacheEntry.getVersion());
+    }
+
+    /**
+     * Returns the disassembled state of the entity.
+     * @return the disassembled state of the entity
+     */
+    public Serializable[] getDisassembledState() {
+        return this.disassembledState;
+    }
+
+    /**
+     * Returns the entity (sub-)class name.
+     * @return the entity (sub-)class name
+     */
+    public String getSubclass() {
+        return this.subclass;
+    }
+
+    /**
+     * Returns the version of the entity state.
+     * @return the version of the entity state
+     */
+    public Object getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns a DisassembledCacheEntry of the argument version, holding the state of this one with the argument
+     * property slots replaced.
+     * @param version the version of the updated entity state
+     * @param changedSlots the indexes of the changed property slots
+     * @param changedValues the disassembled values of the changed property slots
+     * @return a DisassembledCacheEntry newly constructed, or null if a changed slot is out of the bounds of this state
+     */
+    public DisassembledCacheEntry withChangedSlots(Object version, int[] changedSlots, Serializable[] changedValues) {
+        final Serializable[] state = this.disassembledState.clone();
+        for (int i = 0; i < changedSlots.length; i++) {
+            if (changedSlots[i] >= state.length) {
+                return null;
+            }
+            state[changedSlots[i]] = changedValues[i];
+        }
+        return new DisassembledCacheEntry(state, this.subclass, version);
+    }
+
+    /**
+     * Returns the Hibernate cache entry holding the state of this DisassembledCacheEntry.
+     * @param sessionFactory the session factory the entity is mapped in
+     * @return a Hibernate cache entry, or null if the state of this DisassembledCacheEntry does not match the
+     * current mapping of the entity
+     */
+    public CacheEntry toCacheEntry(SessionFactoryImplementor sessionFactory) {
+        final EntityPersister persister = sessionFactory.getMetamodel().entityPersister(this.subclass);
+        final String[] propertyNames = persister.getPropertyNames();
+        if (propertyNames.length != this.disassembledState.length) {
+            return null;
+        }
+        final Map<String, Object> structuredEntry = new HashMap<>();
+        structuredEntry.put(StructuredCacheEntry.SUBCLASS_KEY, this.subclass);
+        structuredEntry.put(StructuredCacheEntry.VERSION_KEY, this.version);
+        for (int i = 0; i < propertyNames.length; i++) {
+            structuredEntry.put(propertyNames[i], this.disassembledState[i]);
+        }
+        return (CacheEntry) new StructuredCacheEntry(persister).destructure(structuredEntry, sessionFactory);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.extractor.AbstractExtractor;
+import com.tangosol.util.extractor.ChainedExtractor;
+import com.tangosol.util.extractor.ReflectionExtractor;
+
+/**
+ * An EpochKey is the key of a cache value in the NamedCache of a region invalidated by epochs, qualifying the key of
+ * the cache value in its region by the epoch of the region it was put in. Invalidating the region increments its
+ * epoch, so that the cache values of previous epochs are no longer reachable and can be removed in the background.
+ *
+ * @since 3.0.4
+ */
+public class EpochKey implements Serializable, ExternalizableLite {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -2306453187346920744L;
+
+    /**
+     * The ValueExtractor extracting the epoch from the EpochKeys of a NamedCache.
+     */
+    public static final ValueExtractor<Object, Long> EPOCH_EXTRACTOR =
+            new ReflectionExtractor<>("getEpoch", null, AbstractExtractor.KEY);
+
+    /**
+     * The ValueExtractor extracting the epoch from the EpochKeys qualified by the MultiplexedKeys of a NamedCache.
+     */
+    public static final ValueExtractor<Object, Long> MULTIPLEXED_EPOCH_EXTRACTOR = new ChainedExtractor(
+            new ReflectionExtractor<>("getKey", null, AbstractExtractor.KEY), new ReflectionExtractor<>("getEpoch"));
+
+    /**
+     * The epoch of the region in which the cache value was put.
+     */
+    private long epoch;
+
+    /**
+     * The key of the cache value in its region.
+     */
+    private Object key;
+
+    /**
+     * Default constructor, for deserialization only.
+     */
+    public EpochKey() {
+    }
+
+    /**
+     * Complete constructor.
+     * @param epoch the epoch of the region in which the cache value is put
+     * @param key the key of the cache value in its region
+     */
+    public EpochKey(long epoch, Object key) {
+        this.epoch = epoch;
+        this.key = key;
+    }
+
+    /**
+     * Returns the epoch of the region in which the cache value was put.
+     * @return the epoch of the region in which the cache value was put
+     */
+    public long getEpoch() {
+        return this.epoch;
+    }
+
+    /**
+     * Returns the key of the cache value in its region.
+     * @return the key of the cache value in its region
+     */
+    public Object getKey() {
+        return this.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof EpochKey)) {
+            return false;
+        }
+        final EpochKey otherKey = (EpochKey) other;
+        return this.epoch == otherKey.epoch && Objects.equals(this.key, otherKey.key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.epoch) + Objects.hashCode(this.key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "(" + this.epoch + ", " + this.key + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        this.epoch = ExternalizableHelper.readLong(in);
+        this.key = ExternalizableHelper.readObject(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeLong(out, this.epoch);
+        ExternalizableHelper.writeObject(out, this.key);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.extractor.AbstractExtractor;
+import com.tangosol.util.extractor.ReflectionExtractor;
+
+/**
+ * A MultiplexedKey is the key of a cache value in a NamedCache shared by several regions, qualifying the key of the
+ * cache value in its region by the name of the region. The NamedCache is indexed by {@link #REGION_NAME_EXTRACTOR},
+ * so that the entries of a single region can be selected efficiently.
+ *
+ * @since 3.0.4
+ */
+public class MultiplexedKey implements Serializable, ExternalizableLite {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 4096375519467280471L;
+
+    /**
+     * The ValueExtractor extracting the region name from the MultiplexedKeys of a NamedCache.
+     */
+    public static final ValueExtractor<Object, String> REGION_NAME_EXTRACTOR =
+            new ReflectionExtractor<>("getRegionName", null, AbstractExtractor.KEY);
+
+    /**
+     * The name of the region holding the cache value.
+     */
+    private String regionName;
+
+    /**
+     * The key of the cache value in its region.
+     */
+    private Object key;
+
+    /**
+     * Default constructor, for deserialization only.
+     */
+    public MultiplexedKey() {
+    }
+
+    /**
+     * Complete constructor.
+     * @param regionName the name of the region holding the cache value
+     * @param key the key of the cache value in its region
+     */
+    public MultiplexedKey(String regionName, Object key) {
+        this.regionName = regionName;
+        this.key = key;
+    }
+
+    /**
+     * Returns the name of the region holding the cache value.
+     * @return the name of the region holding the cache value
+     */
+    public String getRegionName() {
+        return this.regionName;
+    }
+
+    /**
+     * Returns the key of the cache value in its region.
+     * @return the key of the cache value in its region
+     */
+    public Object getKey() {
+        return this.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MultiplexedKey)) {
+            return false;
+        }
+        final MultiplexedKey otherKey = (MultiplexedKey) other;
+        return Objects.equals(this.regionName, otherKey.regionName) && Objects.equals(this.key, otherKey.key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(this.regionName) + Objects.hashCode(this.key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName() + "(" + this.regionName + ", " + this.key + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        this.regionName = ExternalizableHelper.readSafeUTF(in);
+        this.key = ExternalizableHelper.readObject(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeSafeUTF(out, this.regionName);
+        ExternalizableHelper.writeObject(out, this.key);
+    }
+}
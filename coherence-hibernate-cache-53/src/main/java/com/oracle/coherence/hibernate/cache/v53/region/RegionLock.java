@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.util.ExternalizableHelper;
+
+/**
+ * A RegionLock is the soft lock on an entire region, held in the region metadata cache. While a region is locked, its
+ * cache values are neither read nor put from load, so that locking a region, e.g. for the duration of a bulk update,
+ * costs a single request regardless of its size. A RegionLock counts the concurrent holders of the lock, and expires
+ * when the lock lease duration has elapsed after it was last acquired, so that it does not outlive crashed holders.
+ * It also records the time at which it was last released, so that values loaded by transactions which started while
+ * the region was locked are not put into the cache once it is unlocked.
+ *
+ * RegionLocks are immutable; acquiring and releasing the lock yields a new RegionLock.
+ *
+ * @since 3.0.4
+ */
+public class RegionLock implements Serializable, ExternalizableLite {
+
+    /**
+     * The RegionLock of a region which was never locked.
+     */
+    public static final RegionLock UNLOCKED = new RegionLock(0, 0L, 0L);
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 5305623424978385520L;
+
+    /**
+     * The number of holders of this RegionLock.
+     */
+    private int holdCount;
+
+    /**
+     * The time at which this RegionLock expires.
+     */
+    private long expirationTime;
+
+    /**
+     * The time at which this RegionLock was last released, or 0 if it never was.
+     */
+    private long releaseTime;
+
+    /**
+     * Default constructor, for deserialization only.
+     */
+    public RegionLock() {
+    }
+
+    /**
+     * Constructs a RegionLock which was never released.
+     * @param holdCount the number of holders of the RegionLock
+     * @param expirationTime the time at which the RegionLock expires
+     */
+    public RegionLock(int holdCount, long expirationTime) {
+        this(holdCount, expirationTime, 0L);
+    }
+
+    /**
+     * Complete constructor.
+     * @param holdCount the number of holders of the RegionLock
+     * @param expirationTime the time at which the RegionLock expires
+     * @param releaseTime the time at which the RegionLock was last released, or 0 if it never was
+     */
+    public RegionLock(int holdCount, long expirationTime, long releaseTime) {
+        this.holdCount = holdCount;
+        this.expirationTime = expirationTime;
+        this.releaseTime = releaseTime;
+    }
+
+    /**
+     * Returns the number of holders of this RegionLock.
+     * @return the number of holders
+     */
+    public int getHoldCount() {
+        return this.holdCount;
+    }
+
+    /**
+     * Returns the time at which this RegionLock expires.
+     * @return the expiration time
+     */
+    public long getExpirationTime() {
+        return this.expirationTime;
+    }
+
+    /**
+     * Returns the time at which this RegionLock was last released. For a RegionLock that is still held, this is the
+     * time at which it expires, as a holder which crashed never releases it.
+     * @return the release time, or 0 if this RegionLock was never held
+     */
+    public long getReleaseTime() {
+        return (this.holdCount > 0) ? Math.max(this.releaseTime, this.expirationTime) : this.releaseTime;
+    }
+
+    /**
+     * Returns a boolean indicating whether this RegionLock is in effect at the argument time.
+     * @param time the time at which to check
+     * @return a boolean indicating whether the region is locked at the argument time
+     */
+    public boolean isLockedAt(long time) {
+        return this.holdCount > 0 && time < this.expirationTime;
+    }
+
+    /**
+     * Returns the RegionLock resulting from acquiring this RegionLock at the argument time.
+     * @param time the time at which the lock is acquired
+     * @param leaseDuration the duration for which the lock is to be held at most, in the units of the time
+     * @return the acquired RegionLock
+     */
+    public RegionLock lock(long time, long leaseDuration) {
+        //a RegionLock which expired is not held by anyone anymore
+        return isLockedAt(time) ?
+                new RegionLock(this.holdCount + 1, Math.max(this.expirationTime, time + leaseDuration), this.releaseTime) :
+                new RegionLock(1, time + leaseDuration, getReleaseTime());
+    }
+
+    /**
+     * Returns the RegionLock resulting from releasing this RegionLock at the argument time.
+     * @param time the time at which the lock is released
+     * @return the released RegionLock, which records the argument time as its release time if it is not held by
+     * anyone anymore
+     */
+    public RegionLock unlock(long time) {
+        return (isLockedAt(time) && this.holdCount > 1) ?
+                new RegionLock(this.holdCount - 1, this.expirationTime, this.releaseTime) :
+                new RegionLock(0, 0L, Math.max(this.releaseTime, time));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof RegionLock)) {
+            return false;
+        }
+        final RegionLock that = (RegionLock) object;
+        return this.holdCount == that.holdCount && this.expirationTime == that.expirationTime
+                && this.releaseTime == that.releaseTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.holdCount + Long.hashCode(this.expirationTime)) + Long.hashCode(this.releaseTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(holdCount=" + this.holdCount + ", expirationTime=" + this.expirationTime
+                + ", releaseTime=" + this.releaseTime + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        this.holdCount = ExternalizableHelper.readInt(in);
+        this.expirationTime = ExternalizableHelper.readLong(in);
+        this.releaseTime = ExternalizableHelper.readLong(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeInt(out, this.holdCount);
+        ExternalizableHelper.writeLong(out, this.expirationTime);
+        ExternalizableHelper.writeLong(out, this.releaseTime);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+/**
+ * An enum representing the different types of data held by the regions of Hibernate's second-level cache. Under
+ * service isolation, each type of region is implemented by NamedCaches of a Coherence cache service of its own, which
+ * is configured by the caching scheme named by {@link #getSchemeName()}.
+ *
+ * @since 3.0.4
+ */
+public enum RegionType {
+
+    /**
+     * Regions holding entities.
+     */
+    ENTITY("entity"),
+
+    /**
+     * Regions holding the elements of collection-typed entity attributes.
+     */
+    COLLECTION("collection"),
+
+    /**
+     * Regions holding the mappings of natural ids to entity ids.
+     */
+    NATURAL_ID("natural-id"),
+
+    /**
+     * Regions holding query results.
+     */
+    QUERY_RESULTS("query-results"),
+
+    /**
+     * The region holding the update timestamps of tables.
+     */
+    TIMESTAMPS("timestamps");
+
+    private final String schemeName;
+
+    RegionType(String name) {
+        this.schemeName = "hibernate-second-level-cache-" + name + "-scheme";
+    }
+
+    /**
+     * Returns the name of the caching scheme configuring the cache service dedicated to regions of this type.
+     * @return the name of the caching scheme of this region type
+     */
+    public String getSchemeName() {
+        return this.schemeName;
+    }
+}
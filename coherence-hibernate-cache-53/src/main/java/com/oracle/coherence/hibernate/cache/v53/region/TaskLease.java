@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.util.ExternalizableHelper;
+
+/**
+ * A TaskLease is the lease of a single region user on a periodic task over an entire region, held in the region
+ * metadata cache, so that the task is run by one member of the cluster at a time rather than by every member using
+ * the region. A TaskLease expires when the lease duration has elapsed after it was last acquired, so that another
+ * member takes the task over once its holder stopped renewing it.
+ *
+ * TaskLeases are immutable; acquiring the lease yields a new TaskLease.
+ *
+ * @since 3.0.4
+ */
+public class TaskLease implements Serializable, ExternalizableLite {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -3712498230544109312L;
+
+    /**
+     * The identifier of the holder of this TaskLease.
+     */
+    private String holderId;
+
+    /**
+     * The time at which this TaskLease expires.
+     */
+    private long expirationTime;
+
+    /**
+     * Default constructor, for deserialization only.
+     */
+    public TaskLease() {
+    }
+
+    /**
+     * Complete constructor.
+     * @param holderId the identifier of the holder of the TaskLease
+     * @param expirationTime the time at which the TaskLease expires
+     */
+    public TaskLease(String holderId, long expirationTime) {
+        this.holderId = holderId;
+        this.expirationTime = expirationTime;
+    }
+
+    /**
+     * Returns the identifier of the holder of this TaskLease.
+     * @return the identifier of the holder
+     */
+    public String getHolderId() {
+        return this.holderId;
+    }
+
+    /**
+     * Returns the time at which this TaskLease expires.
+     * @return the expiration time
+     */
+    public long getExpirationTime() {
+        return this.expirationTime;
+    }
+
+    /**
+     * Returns a boolean indicating whether this TaskLease is held by the argument holder at the argument time.
+     * @param holderId the identifier of the holder
+     * @param time the time at which to check
+     * @return a boolean indicating whether the argument holder holds this TaskLease at the argument time
+     */
+    public boolean isHeldBy(String holderId, long time) {
+        return time < this.expirationTime && Objects.equals(this.holderId, holderId);
+    }
+
+    /**
+     * Returns the TaskLease resulting from the argument holder acquiring or renewing this TaskLease at the argument
+     * time.
+     * @param holderId the identifier of the holder
+     * @param time the time at which the lease is acquired
+     * @param leaseDuration the duration for which the lease is to be held, in the units of the time
+     * @return the acquired TaskLease, or this TaskLease if it is held by another holder
+     */
+    public TaskLease acquire(String holderId, long time, long leaseDuration) {
+        //a TaskLease which expired is not held by anyone anymore
+        return (time < this.expirationTime && !Objects.equals(this.holderId, holderId)) ?
+                this :
+                new TaskLease(holderId, time + leaseDuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TaskLease)) {
+            return false;
+        }
+        final TaskLease that = (TaskLease) object;
+        return Objects.equals(this.holderId, that.holderId) && this.expirationTime == that.expirationTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(this.holderId) + Long.hashCode(this.expirationTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(holderId=" + this.holderId + ", expirationTime=" + this.expirationTime + ")";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        this.holderId = ExternalizableHelper.readSafeUTF(in);
+        this.expirationTime = ExternalizableHelper.readLong(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeSafeUTF(out, this.holderId);
+        ExternalizableHelper.writeLong(out, this.expirationTime);
+    }
+}
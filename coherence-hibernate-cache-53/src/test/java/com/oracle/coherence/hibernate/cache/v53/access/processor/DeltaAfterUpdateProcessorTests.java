@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v53.region.DisassembledCacheEntry;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeltaAfterUpdateProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void applyDelta() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		final CoherenceRegionValue coherenceRegionValue = new CoherenceRegionValue(newCacheEntry(1, "a", "b", "c"), 1, now);
+		fooCache.put(1L, coherenceRegionValue);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+
+		final DeltaAfterUpdateProcessor processor = new DeltaAfterUpdateProcessor(1, 2, "Foo", new int[] {1},
+				new Serializable[] {"B"}, now + 1L, softLock, now + 1L);
+		assertThat(fooCache.<Boolean>invoke(1L, processor)).isTrue();
+
+		final CoherenceRegionValue updatedValue = fooCache.get(1L);
+		assertThat(updatedValue.getVersion()).isEqualTo(2);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNotNull();
+		final DisassembledCacheEntry cacheEntry = (DisassembledCacheEntry) updatedValue.getValue();
+		assertThat(cacheEntry.getDisassembledState()).containsExactly("a", "B", "c");
+		assertThat(cacheEntry.getVersion()).isEqualTo(2);
+		assertThat(cacheEntry.getSubclass()).isEqualTo("Foo");
+	}
+
+	@Test
+	public void invalidateValueOfOtherVersion() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		final CoherenceRegionValue coherenceRegionValue = new CoherenceRegionValue(newCacheEntry(3, "a", "b", "c"), 3, now);
+		fooCache.put(1L, coherenceRegionValue);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+
+		final DeltaAfterUpdateProcessor processor = new DeltaAfterUpdateProcessor(1, 2, "Foo", new int[] {1},
+				new Serializable[] {"B"}, now + 1L, softLock, now + 1L);
+		assertThat(fooCache.<Boolean>invoke(1L, processor)).isFalse();
+
+		final CoherenceRegionValue invalidatedValue = fooCache.get(1L);
+		assertThat(invalidatedValue.getValue()).isNull();
+		assertThat(invalidatedValue.isSoftLocked()).isFalse();
+	}
+
+	@Test
+	public void doNotUpdateMultiplyLockedValue() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		final CoherenceRegionValue.SoftLock otherSoftLock = new CoherenceRegionValue.SoftLock(2, 1L, now + 60000L);
+		final CoherenceRegionValue coherenceRegionValue = new CoherenceRegionValue(newCacheEntry(1, "a", "b", "c"), 1, now);
+		fooCache.put(1L, coherenceRegionValue);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, otherSoftLock));
+
+		final DeltaAfterUpdateProcessor processor = new DeltaAfterUpdateProcessor(1, 2, "Foo", new int[] {1},
+				new Serializable[] {"B"}, now + 1L, softLock, now + 1L);
+		assertThat(fooCache.<Boolean>invoke(1L, processor)).isFalse();
+
+		final CoherenceRegionValue lockedValue = fooCache.get(1L);
+		assertThat(lockedValue.getVersion()).isEqualTo(1);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+	}
+
+	private NamedCache<Long, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		return fooCache;
+	}
+
+	private static DisassembledCacheEntry newCacheEntry(Object version, Serializable... state) {
+		return new DisassembledCacheEntry(state, "Foo", version);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.time.Instant;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpiringProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void expirePutValue() throws InterruptedException {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final PutFromLoadProcessor putFromLoadProcessor = new PutFromLoadProcessor(false, new CoherenceRegionValue("bar", 1, now));
+		assertThat(fooCache.<Boolean>invoke(1L, new ExpiringProcessor(putFromLoadProcessor, 500L))).isTrue();
+		assertThat(fooCache.containsKey(1L)).isTrue();
+
+		Thread.sleep(1500L);
+		assertThat(fooCache.containsKey(1L)).isFalse();
+	}
+
+	@Test
+	public void doNotExpireRejectedValue() throws InterruptedException {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+		final AfterInsertProcessor afterInsertProcessor = new AfterInsertProcessor(new CoherenceRegionValue("baz", 1, now + 1L));
+		assertThat(fooCache.<Boolean>invoke(1L, new ExpiringProcessor(afterInsertProcessor, 500L))).isFalse();
+
+		Thread.sleep(1500L);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+	}
+
+	@Test
+	public void retainExpiryWhileSoftLocked() throws InterruptedException {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final ReadWritePutFromLoadProcessor putFromLoadProcessor = new ReadWritePutFromLoadProcessor(false, now,
+				new CoherenceRegionValue("bar", 1, now), null);
+		assertThat(fooCache.<Boolean>invoke(1L, new ExpiringProcessor(putFromLoadProcessor, 1000L))).isTrue();
+
+		Thread.sleep(500L);
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock, 60000L));
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock, now + 1L));
+
+		Thread.sleep(1500L);
+		assertThat(fooCache.containsKey(1L)).isFalse();
+	}
+
+	private NamedCache<Long, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		return fooCache;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.time.Instant;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.BinaryEntry;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvalidateAfterUpdateProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void invalidateValue() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		final CoherenceRegionValue coherenceRegionValue = new CoherenceRegionValue("bar", 1, now);
+		fooCache.put(1L, coherenceRegionValue);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+
+		final Boolean result = fooCache.<Boolean>invoke(1L, new InvalidateAfterUpdateProcessor(softLock, now + 1L));
+		assertThat(result).isFalse();
+		assertThat(fooCache.size()).isEqualTo(1);
+
+		final CoherenceRegionValue invalidatedValue = fooCache.get(1L);
+		assertThat(invalidatedValue.getValue()).isNull();
+		assertThat(invalidatedValue.getVersion()).isNull();
+		assertThat(invalidatedValue.isSoftLocked()).isFalse();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+
+		final ReadWritePutFromLoadProcessor putFromLoadProcessor = new ReadWritePutFromLoadProcessor(true, now + 2L,
+				new CoherenceRegionValue("baz", 2, now + 2L), null);
+		assertThat(fooCache.<Boolean>invoke(1L, putFromLoadProcessor)).isTrue();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("baz");
+	}
+
+	@Test
+	public void retainExpiryOfInvalidatedValue() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now), 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+		fooCache.invoke(1L, new InvalidateAfterUpdateProcessor(softLock, now + 1L));
+
+		final Long expiry = fooCache.invoke(1L, (entry) -> ((BinaryEntry<Long, CoherenceRegionValue>) entry).getExpiry());
+		assertThat(expiry).isBetween(1L, 60000L);
+		assertThat(fooCache.get(1L).getValue()).isNull();
+	}
+
+	@Test
+	public void doNotInsertAbsentValue() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+
+		final Boolean result = fooCache.<Boolean>invoke(1L, new InvalidateAfterUpdateProcessor(softLock, now));
+		assertThat(result).isFalse();
+		assertThat(fooCache.size()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Comparator;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadWritePutFromLoadProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void referenceRegisteredVersionComparator() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final Comparator<Integer> versionComparator = new IntegerVersionComparator();
+		final long versionComparatorId = VersionComparatorRegistry.getId(versionComparator);
+		assertThat(versionComparatorId).isNotEqualTo(VersionComparatorRegistry.UNREGISTERED_ID);
+		assertThat(VersionComparatorRegistry.getId(new IntegerVersionComparator())).isEqualTo(versionComparatorId);
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+
+		final CoherenceRegionValue replacementValue = new CoherenceRegionValue("baz", 2, now + 1L);
+		assertThat(fooCache.<Object>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 1L, replacementValue, versionComparatorId, null)))
+				.isEqualTo(ReadWritePutFromLoadProcessor.Result.UNKNOWN_VERSION_COMPARATOR);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+
+		assertThat(fooCache.<Boolean>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 1L, replacementValue, versionComparatorId, versionComparator))).isTrue();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("baz");
+
+		final CoherenceRegionValue nextReplacementValue = new CoherenceRegionValue("qux", 3, now + 2L);
+		assertThat(fooCache.<Boolean>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 2L, nextReplacementValue, versionComparatorId, null))).isTrue();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("qux");
+	}
+
+	@Test
+	public void sendUnregisteredVersionComparator() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 2, now));
+
+		//a comparator which cannot be referenced by id is carried by the first processor, not only after a retry
+		final CoherenceRegionValue staleValue = new CoherenceRegionValue("baz", 1, now + 1L);
+		assertThat(fooCache.<Object>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 1L, staleValue,
+				VersionComparatorRegistry.UNREGISTERED_ID, new IntegerVersionComparator()))).isEqualTo(false);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+
+		final CoherenceRegionValue replacementValue = new CoherenceRegionValue("qux", 3, now + 2L);
+		assertThat(fooCache.<Object>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 2L, replacementValue,
+				VersionComparatorRegistry.UNREGISTERED_ID, new IntegerVersionComparator()))).isEqualTo(true);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("qux");
+	}
+
+	@Test
+	public void clearRegisteredVersionComparators() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final Comparator<Integer> versionComparator = new IntegerVersionComparator();
+		final long versionComparatorId = VersionComparatorRegistry.getId(versionComparator);
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+
+		final CoherenceRegionValue replacementValue = new CoherenceRegionValue("baz", 2, now + 1L);
+		assertThat(fooCache.<Boolean>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 1L, replacementValue, versionComparatorId, versionComparator))).isTrue();
+
+		VersionComparatorRegistry.clear();
+		final CoherenceRegionValue nextReplacementValue = new CoherenceRegionValue("qux", 3, now + 2L);
+		assertThat(fooCache.<Object>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 2L, nextReplacementValue, versionComparatorId, null)))
+				.isEqualTo(ReadWritePutFromLoadProcessor.Result.UNKNOWN_VERSION_COMPARATOR);
+	}
+
+	@Test
+	public void rejectValueLoadedBeforeRegionLockRelease() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final long now = Instant.now().toEpochMilli();
+		final Comparator<Integer> versionComparator = new IntegerVersionComparator();
+		final CoherenceRegionValue staleValue = new CoherenceRegionValue("bar", 1, now);
+		assertThat(fooCache.<Boolean>invoke(1L, new ReadWritePutFromLoadProcessor(false, now, now + 10L, staleValue,
+				VersionComparatorRegistry.UNREGISTERED_ID, versionComparator))).isFalse();
+		assertThat(fooCache.containsKey(1L)).isFalse();
+
+		final CoherenceRegionValue freshValue = new CoherenceRegionValue("baz", 2, now + 11L);
+		assertThat(fooCache.<Boolean>invoke(1L, new ReadWritePutFromLoadProcessor(false, now + 11L, now + 10L, freshValue,
+				VersionComparatorRegistry.UNREGISTERED_ID, versionComparator))).isTrue();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("baz");
+	}
+
+	public static class IntegerVersionComparator implements Comparator<Integer>, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public int compare(Integer version1, Integer version2) {
+			return version1.compareTo(version2);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.access.processor;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v53.region.CoherenceRegionValue;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SoftLockSweepProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void sweepExpiredSoftLocks() {
+
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+		fooCache.put(2L, new CoherenceRegionValue("baz", 1, now));
+		fooCache.put(3L, new CoherenceRegionValue("qux", 1, now));
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, new CoherenceRegionValue.SoftLock(1, 1L, now - 1L)));
+		fooCache.invoke(2L, new SoftLockItemProcessor(null, new CoherenceRegionValue.SoftLock(2, 1L, now + 60000L)));
+
+		final Map<Long, Boolean> result = fooCache.invokeAll(new ExpiredSoftLockFilter(now), new SoftLockSweepProcessor(now));
+		assertThat(result).containsOnlyKeys(1L);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+		assertThat(fooCache.<Object>invoke(2L, new GetProcessor())).isNull();
+		assertThat(fooCache.<Object>invoke(3L, new GetProcessor())).isEqualTo("qux");
+
+		final ReadWritePutFromLoadProcessor putFromLoadProcessor = new ReadWritePutFromLoadProcessor(false, now + 1L,
+				new CoherenceRegionValue("bar", 1, now + 1L), null);
+		assertThat(fooCache.<Boolean>invoke(1L, putFromLoadProcessor)).isTrue();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+	}
+}
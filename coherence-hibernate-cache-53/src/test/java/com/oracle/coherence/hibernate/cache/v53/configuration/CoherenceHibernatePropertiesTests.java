@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -35,6 +35,8 @@ public class CoherenceHibernatePropertiesTests {
 		assertThat(coherenceHibernateProperties.getSessionName()).isNull();
 		assertThat(coherenceHibernateProperties.getCacheConfigFilePath()).isEqualTo("hibernate-second-level-cache-config.xml");
 		assertThat(coherenceHibernateProperties.getCoherenceProperties()).isEmpty();
+		assertThat(coherenceHibernateProperties.isParallelCacheAcquisition()).isFalse();
+		assertThat(coherenceHibernateProperties.isAsyncCacheServerStart()).isFalse();
 	}
 
 	@Test
@@ -46,6 +48,8 @@ public class CoherenceHibernatePropertiesTests {
 		rawHibernateProperties.put("com.oracle.coherence.hibernate.cache.session_type", "SERVER");
 		rawHibernateProperties.put("com.oracle.coherence.hibernate.cache.cache_config_file_path", "foo.xml");
 		rawHibernateProperties.put("com.oracle.coherence.hibernate.cache.coherence_properties.foo.bar", "hello world");
+		rawHibernateProperties.put("com.oracle.coherence.hibernate.cache.parallel_cache_acquisition", "true");
+		rawHibernateProperties.put("com.oracle.coherence.hibernate.cache.async_cache_server_start", "true");
 
 		final CoherenceHibernateProperties coherenceHibernateProperties = new CoherenceHibernateProperties(rawHibernateProperties);
 
@@ -54,6 +58,8 @@ public class CoherenceHibernatePropertiesTests {
 		assertThat(coherenceHibernateProperties.getSessionName()).isEqualTo("bar");
 		assertThat(coherenceHibernateProperties.getCacheConfigFilePath()).isEqualTo("foo.xml");
 		assertThat(coherenceHibernateProperties.getCoherenceProperties()).hasSize(1);
+		assertThat(coherenceHibernateProperties.isParallelCacheAcquisition()).isTrue();
+		assertThat(coherenceHibernateProperties.isAsyncCacheServerStart()).isTrue();
 	}
 
 	@Test
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import com.oracle.coherence.hibernate.cache.v53.CoherenceRegionFactory;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.processor.ConditionalRemove;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoherenceRegionAvailabilityTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void missWhileNotAvailable() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+		final StartingRegionFactory regionFactory = new StartingRegionFactory();
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, Collections.emptyMap(), "foo");
+
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+		assertThat(region.isAvailable()).isFalse();
+		assertThat(region.getValue(1L)).isNull();
+		assertThat(region.contains(1L)).isFalse();
+		assertThat(region.invoke(1L, new ConditionalRemove(AlwaysFilter.INSTANCE))).isNull();
+		assertThat(region.isNamedCacheAcquired()).isFalse();
+		assertThat(fooCache.containsKey(1L)).isTrue();
+	}
+
+	@Test
+	public void applyWritesOnceAvailable() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+		final StartingRegionFactory regionFactory = new StartingRegionFactory();
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, Collections.emptyMap(), "foo");
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+		fooCache.put(2L, new CoherenceRegionValue("bar", 1, now));
+		region.putValue(3L, new CoherenceRegionValue("baz", 1, now));
+		region.evict(1L);
+		assertThat(fooCache.containsKey(1L)).isTrue();
+		assertThat(fooCache.containsKey(3L)).isFalse();
+
+		regionFactory.ready = true;
+		assertThat(region.isAvailable()).isTrue();
+		assertThat(region.getValue(2L)).isNotNull();
+		assertThat(fooCache.containsKey(1L)).isFalse();
+		assertThat(fooCache.get(3L).getValue()).isEqualTo("baz");
+	}
+
+	@Test
+	public void clearOnceAvailableAfterEvictAll() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+		final StartingRegionFactory regionFactory = new StartingRegionFactory();
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, Collections.emptyMap(), "foo");
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+		region.evictAll();
+		region.putValue(2L, new CoherenceRegionValue("baz", 1, now));
+		assertThat(fooCache.containsKey(1L)).isTrue();
+
+		regionFactory.ready = true;
+		assertThat(region.getElementCountInMemory()).isEqualTo(1L);
+		assertThat(fooCache.containsKey(1L)).isFalse();
+		assertThat(fooCache.containsKey(2L)).isTrue();
+	}
+
+	private NamedCache<Long, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		return fooCache;
+	}
+
+	/**
+	 * A CoherenceRegionFactory whose Coherence is ready once the test says so.
+	 */
+	private static final class StartingRegionFactory extends CoherenceRegionFactory {
+
+		private volatile boolean ready;
+
+		@Override
+		public boolean isCoherenceReady() {
+			return this.ready;
+		}
+	}
+}
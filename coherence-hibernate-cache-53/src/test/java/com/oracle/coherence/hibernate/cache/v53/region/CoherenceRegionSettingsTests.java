@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.oracle.coherence.hibernate.cache.v53.CoherenceRegionFactory;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoherenceRegionSettingsTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void changeSettingsThroughMBeanServer() throws Exception {
+
+		final Map<String, Object> properties = new HashMap<>();
+		properties.put(CoherenceRegion.MIN_LOCK_LEASE_DURATION_PROPERTY_NAME, "100");
+		properties.put(CoherenceRegion.PENDING_LOAD_TIMEOUT_PROPERTY_NAME, "10s");
+		final CoherenceRegion region = newRegion("foo", properties);
+		final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		final ObjectName objectName = CoherenceRegionSettings.register(region, "test");
+		assertThat(objectName).isEqualTo(CoherenceRegionSettings.getObjectName("test", "foo"));
+		assertThat(CoherenceRegionSettings.register(region, "test")).isNull();
+		try {
+			assertThat(mBeanServer.getAttribute(objectName, "LockLeaseDuration")).isEqualTo(CoherenceRegion.DEFAULT_LOCK_LEASE_DURATION);
+			assertThat(mBeanServer.getAttribute(objectName, "NearCacheHighUnits")).isEqualTo(-1);
+
+			mBeanServer.setAttribute(objectName, new Attribute("LockLeaseDuration", 5000));
+			mBeanServer.setAttribute(objectName, new Attribute("TimeToLive", 60000L));
+			assertThat(region.getTimeout()).isEqualTo(5000);
+			assertThat(region.getSoftLockLease()).isEqualTo(5000L);
+			assertThat(region.getPendingLoadTimeout()).isEqualTo(5000L);
+			assertThat(mBeanServer.getAttribute(objectName, "TimeToLive")).isEqualTo(60000L);
+
+			mBeanServer.setAttribute(objectName, new Attribute("PendingLoadTimeout", 10000L));
+			assertThat(region.getPendingLoadTimeout()).isEqualTo(5000L);
+		}
+		finally {
+			CoherenceRegionSettings.unregister(objectName);
+		}
+		assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+	}
+
+	@Test
+	public void applyChangedTimeToLive() throws Exception {
+
+		final CoherenceRegion region = newRegion("foo", Collections.emptyMap());
+		final NamedCache<Object, CoherenceRegionValue> fooCache = region.getNamedCache();
+		final CoherenceRegionSettings settings = new CoherenceRegionSettings(region);
+
+		settings.setTimeToLive(50L);
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+		Thread.sleep(200L);
+		assertThat(fooCache.containsKey(1L)).isFalse();
+
+		settings.setTimeToLive(0L);
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+		Thread.sleep(200L);
+		assertThat(fooCache.containsKey(1L)).isTrue();
+	}
+
+	@Test
+	public void changeNearCacheSettings() {
+
+		final CoherenceRegion region = newRegion("query.settings", Collections.emptyMap());
+		final CoherenceRegionSettings settings = new CoherenceRegionSettings(region);
+		region.getNamedCache();
+
+		settings.setNearCacheHighUnits(10);
+		settings.setNearCacheExpiryDelay(1000);
+		assertThat(settings.getNearCacheHighUnits()).isEqualTo(10);
+		assertThat(settings.getNearCacheExpiryDelay()).isEqualTo(1000);
+		assertThat(region.getConfigurableFrontMap().getHighUnits()).isEqualTo(10);
+	}
+
+	@Test
+	public void rejectInvalidSettings() {
+
+		final CoherenceRegionSettings settings = new CoherenceRegionSettings(newRegion("foo", Collections.emptyMap()));
+
+		assertThatThrownBy(() -> settings.setLockLeaseDuration(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> settings.setTimeToLive(-1L)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> settings.setPendingLoadTimeout(-1L)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> settings.setNearCacheHighUnits(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(settings.getLockLeaseDuration()).isEqualTo(CoherenceRegion.DEFAULT_LOCK_LEASE_DURATION);
+	}
+
+	private CoherenceRegion newRegion(String cacheName, Map<String, Object> properties) {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		return new CoherenceRegion(new CoherenceRegionFactory(), cacheName, () -> {
+			final NamedCache cache = factory.ensureCache(cacheName, null);
+			cache.clear();
+			return cache;
+		}, properties, cacheName);
+	}
+}
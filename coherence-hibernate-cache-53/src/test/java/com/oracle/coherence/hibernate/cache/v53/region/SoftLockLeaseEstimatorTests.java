@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v53.region;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SoftLockLeaseEstimatorTests {
+
+	@Test
+	public void useMaxLeaseUntilEnoughSamples() {
+		final SoftLockLeaseEstimator estimator = new SoftLockLeaseEstimator(1000L, 60000L);
+		for (int i = 0; i < SoftLockLeaseEstimator.MIN_SAMPLE_COUNT - 1; i++) {
+			estimator.record(100L);
+		}
+		assertThat(estimator.getLease()).isEqualTo(60000L);
+	}
+
+	@Test
+	public void estimatePercentilePlusMargin() {
+		final SoftLockLeaseEstimator estimator = new SoftLockLeaseEstimator(1000L, 60000L);
+		for (int i = 0; i < SoftLockLeaseEstimator.SAMPLE_CAPACITY; i++) {
+			estimator.record((i % 100 == 0) ? 5000L : 100L);
+		}
+		assertThat(estimator.getLease()).isEqualTo(6000L);
+	}
+
+	@Test
+	public void clampLeaseToBounds() {
+		final SoftLockLeaseEstimator estimator = new SoftLockLeaseEstimator(1000L, 60000L);
+		for (int i = 0; i < SoftLockLeaseEstimator.SAMPLE_CAPACITY; i++) {
+			estimator.record(120000L);
+		}
+		assertThat(estimator.getLease()).isEqualTo(60000L);
+
+		for (int i = 0; i < SoftLockLeaseEstimator.SAMPLE_CAPACITY; i++) {
+			estimator.record(0L);
+		}
+		assertThat(estimator.getLease()).isEqualTo(1000L);
+	}
+
+	@Test
+	public void adaptToRecentSamplesOnly() {
+		final SoftLockLeaseEstimator estimator = new SoftLockLeaseEstimator(1000L, 60000L);
+		for (int i = 0; i < SoftLockLeaseEstimator.SAMPLE_CAPACITY; i++) {
+			estimator.record(30000L);
+		}
+		assertThat(estimator.getLease()).isEqualTo(31000L);
+
+		for (int i = 0; i < SoftLockLeaseEstimator.SAMPLE_CAPACITY; i++) {
+			estimator.record(2000L);
+		}
+		assertThat(estimator.getLease()).isEqualTo(3000L);
+	}
+}
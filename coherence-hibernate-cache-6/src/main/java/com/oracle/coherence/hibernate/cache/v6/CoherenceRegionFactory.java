@@ -1,35 +1,67 @@
 /*
- * Copyright (c) 2013, 2024, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.hibernate.cache.v6;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.management.ObjectName;
 
 import com.oracle.coherence.hibernate.cache.v6.access.CoherenceDomainDataRegionImpl;
 import com.oracle.coherence.hibernate.cache.v6.access.CoherenceStorageAccessImpl;
+import com.oracle.coherence.hibernate.cache.v6.access.EntityPreloader;
+import com.oracle.coherence.hibernate.cache.v6.access.processor.VersionComparatorRegistry;
 import com.oracle.coherence.hibernate.cache.v6.configuration.session.SessionType;
 import com.oracle.coherence.hibernate.cache.v6.configuration.support.Assert;
+import com.oracle.coherence.hibernate.cache.v6.configuration.support.CacheMappings;
 import com.oracle.coherence.hibernate.cache.v6.configuration.support.CoherenceHibernateProperties;
 import com.oracle.coherence.hibernate.cache.v6.configuration.support.CoherenceHibernateSystemPropertyResolver;
 import com.oracle.coherence.hibernate.cache.v6.configuration.support.ConfigUtils;
+import com.oracle.coherence.hibernate.cache.v6.configuration.support.RegionCacheSettings;
+import com.oracle.coherence.hibernate.cache.v6.region.ClusterTimestamper;
 import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegion;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionSettings;
+import com.oracle.coherence.hibernate.cache.v6.region.MultiplexedKey;
+import com.oracle.coherence.hibernate.cache.v6.region.RegionSnapshot;
+import com.oracle.coherence.hibernate.cache.v6.region.RegionType;
 import com.tangosol.net.CacheFactory;
 import com.tangosol.net.Cluster;
+import com.tangosol.net.ConfigurableCacheFactory;
 import com.tangosol.net.DefaultCacheServer;
 import com.tangosol.net.ExtensibleConfigurableCacheFactory;
 import com.tangosol.net.NamedCache;
 import com.tangosol.net.Session;
 import com.tangosol.net.options.WithClassLoader;
 import com.tangosol.net.options.WithConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
@@ -55,6 +87,15 @@ public class CoherenceRegionFactory extends RegionFactoryTemplate {
 
     private static final long serialVersionUID = -8434943540794407358L;
 
+    /**
+     * The name of the NamedCache holding the epochs of regions invalidated by incrementing their epoch, keyed by the
+     * name of the NamedCache of the region, and the {@link com.oracle.coherence.hibernate.cache.v6.region.RegionLock}s
+     * of regions.
+     * @see CoherenceRegion#EPOCH_INVALIDATION_PROPERTY_NAME
+     * @see CoherenceRegion#REGION_LOCKING_PROPERTY_NAME
+     */
+    public static final String REGION_METADATA_CACHE_NAME = "hibernate-second-level-cache-region-metadata";
+
     protected transient CoherenceHibernateSystemPropertyResolver systemPropertyResolver;
 
     protected transient Session coherenceSession;
@@ -63,7 +104,112 @@ public class CoherenceRegionFactory extends RegionFactoryTemplate {
 
     private transient DefaultCacheServer defaultCacheServer;
 
-    private Cluster cluster = null;
+    /**
+     * The key of the shared Coherence Session used by this factory, or null if the Session is not shared.
+     */
+    private transient String sharedSessionKey;
+
+    /**
+     * The source of the timestamps returned by {@link #nextTimestamp()}, derived from the cluster time. Created on
+     * first use, so that it is also present after this factory has been deserialized.
+     */
+    private transient volatile ClusterTimestamper timestamper;
+
+    /**
+     * The executor running periodic maintenance tasks of the regions built by this factory, created on first use.
+     */
+    private transient ScheduledExecutorService scheduler;
+
+    /**
+     * The maximum number of NamedCaches acquired concurrently in the background.
+     */
+    private static final int CACHE_ACQUISITION_THREAD_COUNT = 8;
+
+    /**
+     * The executor acquiring the NamedCaches of regions in the background, or null if they are acquired on first use.
+     */
+    private transient ExecutorService cacheAcquisitionExecutor;
+
+    /**
+     * The startup of Coherence running in the background, or null if Coherence was started synchronously.
+     */
+    private transient volatile CompletableFuture<Void> coherenceStartup;
+
+    /**
+     * The NamedCache shared by multiplexed regions, or null if it was not acquired yet.
+     */
+    private transient NamedCache multiplexedNamedCache;
+
+    /**
+     * The NamedCache holding the epochs and locks of regions, or null if it was not acquired yet.
+     */
+    private transient volatile NamedCache regionMetadataCache;
+
+    /**
+     * The path of the cache configuration file whose cache mappings are amended as the regions are built, or null if
+     * the cache configuration is used as is.
+     */
+    private transient String mappedCacheConfigFilePath;
+
+    /**
+     * Whether the regions of each type are implemented by a cache service of their own.
+     */
+    private transient boolean serviceIsolation;
+
+    /**
+     * Whether an MBean is registered per region, exposing its performance parameters for change at runtime.
+     */
+    private transient boolean regionManagement;
+
+    /**
+     * The ObjectNames of the MBeans registered for the regions built by this factory.
+     */
+    private final transient List<ObjectName> regionMBeanNames = new CopyOnWriteArrayList<>();
+
+    /**
+     * The suffix of the names of region snapshot files.
+     */
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    /**
+     * The name of the periodic task taking the snapshots of a region.
+     */
+    private static final String SNAPSHOT_TASK_NAME = "snapshot";
+
+    /**
+     * The directory holding the snapshots of the regions built by this factory, or null if no snapshots are taken.
+     */
+    private transient Path snapshotDirectory;
+
+    /**
+     * The interval in milliseconds at which snapshots of the regions are taken.
+     */
+    private transient long snapshotInterval;
+
+    /**
+     * The regions built by this factory of which snapshots are taken.
+     */
+    private final transient List<CoherenceRegion> snapshotRegions = new CopyOnWriteArrayList<>();
+
+    /**
+     * The SessionFactory for which regions caching read-only entities were built, or null if none were built.
+     */
+    private transient SessionFactoryImplementor preloadSessionFactory;
+
+    /**
+     * The names of the read-only entities cached in the regions built by this factory, by unqualified region name.
+     */
+    private final transient Map<String, List<String>> readOnlyEntityNames = new ConcurrentHashMap<>();
+
+    /**
+     * The unqualified names of the regions preloaded once the SessionFactory is created.
+     */
+    private final transient List<String> startupPreloadRegionNames = new CopyOnWriteArrayList<>();
+
+    /**
+     * The number of entities fetched and put at once while preloading regions.
+     */
+    private transient int preloadBatchSize = CoherenceRegion.DEFAULT_PRELOAD_BATCH_SIZE;
 
     /**
      * Default constructor. Any Coherence instances created will implicitly require a shutdown of Coherence when
@@ -165,7 +311,44 @@ public class CoherenceRegionFactory extends RegionFactoryTemplate {
 
         this.systemPropertyResolver.initialize();
 
-        prepareCoherenceSessionIfNeeded(coherenceHibernateProperties);
+        //the cache configuration can only be amended if this factory creates the Session
+        this.serviceIsolation = coherenceHibernateProperties.isServiceIsolation();
+        this.regionManagement = coherenceHibernateProperties.isRegionManagement();
+        this.snapshotInterval = coherenceHibernateProperties.getSnapshotInterval();
+        this.snapshotDirectory = (coherenceHibernateProperties.getSnapshotDirectory() != null) ?
+                Paths.get(coherenceHibernateProperties.getSnapshotDirectory()) :
+                null;
+        if (this.snapshotDirectory != null) {
+            try {
+                Files.createDirectories(this.snapshotDirectory);
+            }
+            catch (IOException ex) {
+                throw new CacheException(String.format("Unable to create the snapshot directory '%s'.", this.snapshotDirectory), ex);
+            }
+        }
+        this.mappedCacheConfigFilePath = (this.coherenceSession == null) ?
+                coherenceHibernateProperties.getCacheConfigFilePath() :
+                null;
+
+        if (this.coherenceSession == null && !SessionType.CLIENT.equals(coherenceHibernateProperties.getSessionType())
+                && coherenceHibernateProperties.isStartCacheServer() && coherenceHibernateProperties.isAsyncCacheServerStart()) {
+            startCoherenceInBackground(coherenceHibernateProperties);
+        }
+        else {
+            prepareCoherenceSessionIfNeeded(coherenceHibernateProperties);
+        }
+
+        if (coherenceHibernateProperties.isParallelCacheAcquisition()) {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(CACHE_ACQUISITION_THREAD_COUNT, CACHE_ACQUISITION_THREAD_COUNT,
+                    30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), (runnable) -> {
+                        final Thread thread = new Thread(runnable, "CoherenceHibernateCacheAcquisition");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            //the threads are only needed while the regions are built
+            executor.allowCoreThreadTimeOut(true);
+            this.cacheAcquisitionExecutor = executor;
+        }
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("start({}, {})", settings, configValues);
@@ -174,64 +357,209 @@ public class CoherenceRegionFactory extends RegionFactoryTemplate {
 
     private void prepareCoherenceSessionIfNeeded(CoherenceHibernateProperties coherenceHibernateProperties) {
         if (this.coherenceSession == null) {
-            if (coherenceHibernateProperties.getSessionType() == null || SessionType.SERVER.equals(coherenceHibernateProperties.getSessionType())) {
-                if (coherenceHibernateProperties.isStartCacheServer()) {
-                    final ExtensibleConfigurableCacheFactory.Dependencies deps =
-                            ExtensibleConfigurableCacheFactory.DependenciesHelper.newInstance(coherenceHibernateProperties.getCacheConfigFilePath());
-
-                    final ExtensibleConfigurableCacheFactory cacheFactory = new ExtensibleConfigurableCacheFactory(deps);
-                    this.defaultCacheServer = new DefaultCacheServer(cacheFactory);
-                    this.defaultCacheServer.startDaemon(5000);
-                }
+            if (coherenceHibernateProperties.isSharedSession()) {
+                final String sessionKey = CoherenceSessionRegistry.getKey(coherenceHibernateProperties.getSessionName(),
+                        coherenceHibernateProperties.getCacheConfigFilePath());
+                this.setCoherenceSession(CoherenceSessionRegistry.acquire(sessionKey, () -> {
+                    final Session session = createCoherenceSession(coherenceHibernateProperties);
+                    //the cache server is shut down along with the shared session, by whichever factory releases it last
+                    final DefaultCacheServer cacheServer = this.defaultCacheServer;
+                    this.defaultCacheServer = null;
+                    return new CoherenceSessionRegistry.Registration(session, () -> shutDownCoherence(session, cacheServer));
+                }));
+                this.sharedSessionKey = sessionKey;
+            }
+            else {
+                this.setCoherenceSession(createCoherenceSession(coherenceHibernateProperties));
+            }
+        }
+    }
+
+    /**
+     * Closes the argument Coherence {@link Session}, leaves the cluster and shuts down the argument cache server.
+     * @param session the Session to close, may be null
+     * @param cacheServer the cache server to shut down, may be null
+     */
+    private static void shutDownCoherence(Session session, DefaultCacheServer cacheServer) {
+        closeSession(session);
+
+        CacheFactory.getCluster().shutdown();
+        CacheFactory.shutdown();
 
-                CacheFactory.ensureCluster();
+        if (cacheServer != null) {
+            cacheServer.shutdownServer();
+        }
+    }
 
+    /**
+     * Closes the argument Coherence {@link Session}, logging rather than propagating a failure to do so.
+     * @param session the Session to close, may be null
+     */
+    private static void closeSession(Session session) {
+        if (session != null) {
+            try {
+                session.close();
+            }
+            catch (Exception ex) {
+                if (LOGGER.isErrorEnabled()) {
+                    LOGGER.error("Unable to close session '{}'.", session, ex);
+                }
             }
+        }
+    }
 
-            final List<Session.Option> sessionOptions = new ArrayList<>();
+    /**
+     * Starts the cache server and joins the cluster as configured, and creates a Coherence {@link Session}.
+     * @param coherenceHibernateProperties the properties configuring Coherence
+     * @return the created Session
+     */
+    private Session createCoherenceSession(CoherenceHibernateProperties coherenceHibernateProperties) {
+        if (coherenceHibernateProperties.getSessionType() == null || SessionType.SERVER.equals(coherenceHibernateProperties.getSessionType())) {
+            if (coherenceHibernateProperties.isStartCacheServer()) {
+                final ExtensibleConfigurableCacheFactory.Dependencies deps =
+                        ExtensibleConfigurableCacheFactory.DependenciesHelper.newInstance(coherenceHibernateProperties.getCacheConfigFilePath());
 
-            if (coherenceHibernateProperties.getSessionName() != null) {
-                sessionOptions.add(ConfigUtils.getSessionNameOption(coherenceHibernateProperties.getSessionName()));
+                final ExtensibleConfigurableCacheFactory cacheFactory = new ExtensibleConfigurableCacheFactory(deps);
+                this.defaultCacheServer = new DefaultCacheServer(cacheFactory);
+                this.defaultCacheServer.startDaemon(5000);
             }
 
-            final Session.Option cacheConfigFilePathOption = WithConfiguration.using(coherenceHibernateProperties.getCacheConfigFilePath());
-            final Session.Option classLoaderOption = WithClassLoader.using(getClass().getClassLoader());
+            CacheFactory.ensureCluster();
+
+        }
 
-            sessionOptions.add(cacheConfigFilePathOption);
-            sessionOptions.add(classLoaderOption);
+        final List<Session.Option> sessionOptions = new ArrayList<>();
 
-            final Session sessionToSet = Session.create(sessionOptions.toArray(new Session.Option[0]));
-            this.setCoherenceSession(sessionToSet);
+        if (coherenceHibernateProperties.getSessionName() != null) {
+            sessionOptions.add(ConfigUtils.getSessionNameOption(coherenceHibernateProperties.getSessionName()));
         }
+
+        final Session.Option cacheConfigFilePathOption = WithConfiguration.using(coherenceHibernateProperties.getCacheConfigFilePath());
+        final Session.Option classLoaderOption = WithClassLoader.using(getClass().getClassLoader());
+
+        sessionOptions.add(cacheConfigFilePathOption);
+        sessionOptions.add(classLoaderOption);
+
+        return Session.create(sessionOptions.toArray(new Session.Option[0]));
+    }
+
+    /**
+     * Starts the cache server, joins the cluster and creates the Coherence {@link Session} in the background, so that
+     * Hibernate can finish bootstrapping meanwhile. Until the startup completed, the regions built by this factory
+     * miss; see {@link #isCoherenceReady()}.
+     * @param coherenceHibernateProperties the properties configuring Coherence
+     */
+    private void startCoherenceInBackground(CoherenceHibernateProperties coherenceHibernateProperties) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Starting Coherence in the background.");
+        }
+        this.coherenceStartup = CompletableFuture.runAsync(
+                () -> prepareCoherenceSessionIfNeeded(coherenceHibernateProperties),
+                (runnable) -> {
+                    final Thread thread = new Thread(runnable, "CoherenceHibernateStartup");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+        this.coherenceStartup.whenComplete((result, ex) -> {
+            if (ex != null) {
+                if (LOGGER.isErrorEnabled()) {
+                    LOGGER.error("Unable to start Coherence; the second-level cache will keep missing.", ex);
+                }
+            }
+            else {
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("Coherence started in the background.");
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns a boolean indicating whether Coherence is ready to serve the regions built by this factory, which is
+     * always the case unless Coherence is started in the background (see
+     * {@link CoherenceHibernateProperties#ASYNC_CACHE_SERVER_START_PROPERTY_NAME}) and its startup did not complete
+     * successfully yet.
+     * @return a boolean indicating whether Coherence is ready
+     */
+    public boolean isCoherenceReady() {
+        final CompletableFuture<Void> startup = this.coherenceStartup;
+        return startup == null || (startup.isDone() && !startup.isCompletedExceptionally());
+    }
+
+    /**
+     * Returns the executor running periodic maintenance tasks of the regions built by this factory. Its single thread
+     * is a daemon thread, and it is shut down when this factory is released from use.
+     * @return the ScheduledExecutorService of this factory
+     */
+    public synchronized ScheduledExecutorService getScheduler() {
+        if (this.scheduler == null) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+                final Thread thread = new Thread(runnable, "CoherenceHibernateRegionScheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.scheduler;
     }
 
     @Override
     protected void releaseFromUse() {
-        if (this.getCoherenceSession() != null) {
+        final CompletableFuture<Void> startup = this.coherenceStartup;
+        if (startup != null) {
+            //let a startup in progress complete, so that whatever it started is shut down below
             try {
-                this.coherenceSession.close();
+                startup.join();
             }
             catch (Exception ex) {
-                if (LOGGER.isErrorEnabled()) {
-                    LOGGER.error("Unable to close session '{}'.", this.coherenceSession, ex);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Coherence did not start.", ex);
                 }
             }
+            this.coherenceStartup = null;
         }
 
-        if (this.requiresShutDown) {
-            CacheFactory.getCluster().shutdown();
-            CacheFactory.shutdown();
+        //a final snapshot lets a planned restart of the cluster be warmed up with the latest cache values
+        this.snapshotRegions.forEach((region) -> writeSnapshot(region, true));
+        this.snapshotRegions.clear();
+        this.readOnlyEntityNames.clear();
+        this.startupPreloadRegionNames.clear();
+        this.preloadSessionFactory = null;
 
-            if (this.defaultCacheServer != null) {
-                this.defaultCacheServer.shutdownServer();
+        synchronized (this) {
+            if (this.scheduler != null) {
+                this.scheduler.shutdownNow();
+                this.scheduler = null;
+            }
+            if (this.cacheAcquisitionExecutor != null) {
+                this.cacheAcquisitionExecutor.shutdownNow();
+                this.cacheAcquisitionExecutor = null;
             }
+            this.multiplexedNamedCache = null;
+            this.regionMetadataCache = null;
+        }
+
+        this.regionMBeanNames.forEach(CoherenceRegionSettings::unregister);
+        this.regionMBeanNames.clear();
+
+        if (this.sharedSessionKey != null) {
+            //the shared Session is closed, and Coherence shut down, by the last factory releasing it
+            CoherenceSessionRegistry.release(this.sharedSessionKey);
+            this.sharedSessionKey = null;
+        }
+        else if (this.requiresShutDown) {
+            shutDownCoherence(this.coherenceSession, this.defaultCacheServer);
+            this.defaultCacheServer = null;
         }
         else {
+            closeSession(this.coherenceSession);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Skipping Coherence shutdown as requiresShutDown flag is false.");
             }
         }
 
+        //registered version comparators would otherwise keep the class loader of the application reachable
+        VersionComparatorRegistry.clear();
+
         System.clearProperty("coherence.log");
         this.systemPropertyResolver.unset();
 
@@ -262,15 +590,43 @@ public class CoherenceRegionFactory extends RegionFactoryTemplate {
 
     /**
      * {@inheritDoc}
+     *
+     * The returned timestamps are derived from the cluster time and are in the units of Hibernate's
+     * {@link org.hibernate.cache.spi.support.SimpleTimestamper}, i.e. {@link ClusterTimestamper#ONE_MS} units per
+     * millisecond. Releases before 3.0.4 returned local milliseconds instead, so the timestamps issued by members
+     * running different releases are not comparable.
      */
     @Override
     public long nextTimestamp() {
-        if (this.cluster == null) {
-            return System.currentTimeMillis();
-        }
-        else {
-            return CacheFactory.ensureCluster().getTimeMillis();
+        return getTimestamper().next();
+    }
+
+    /**
+     * Returns the source of the timestamps returned by {@link #nextTimestamp()}, creating it on first use.
+     * @return the ClusterTimestamper of this factory
+     */
+    private ClusterTimestamper getTimestamper() {
+        ClusterTimestamper current = this.timestamper;
+        if (current == null) {
+            synchronized (this) {
+                current = this.timestamper;
+                if (current == null) {
+                    current = new ClusterTimestamper(CoherenceRegionFactory::getClusterTimeMillis);
+                    this.timestamper = current;
+                }
+            }
         }
+        return current;
+    }
+
+    /**
+     * Returns the cluster time, or the local time if this member has not joined the cluster (yet), e.g. as an
+     * Extend client or while Coherence is started in the background.
+     * @return the cluster time in milliseconds
+     */
+    private static long getClusterTimeMillis() {
+        final Cluster cluster = CacheFactory.getCluster();
+        return (cluster != null && cluster.isRunning()) ? cluster.getTimeMillis() : System.currentTimeMillis();
     }
 
     // ---- Internal
@@ -284,29 +640,376 @@ public class CoherenceRegionFactory extends RegionFactoryTemplate {
         return this.coherenceSession.getCache(RegionNameQualifier.INSTANCE.qualify(cacheName, getOptions()));
     }
 
+    /**
+     * Ensure the initialization of the NamedCache of the argument name shared by multiplexed regions, which is indexed
+     * by region name.
+     * @param cacheName the unqualified name of the shared NamedCache
+     * @return the shared NamedCache
+     * @see CoherenceRegion#MULTIPLEXED_REGIONS_PROPERTY_NAME
+     */
+    protected synchronized NamedCache<?, ?> ensureMultiplexedNamedCache(String cacheName) {
+        if (this.multiplexedNamedCache == null || this.multiplexedNamedCache.isReleased()) {
+            final NamedCache cache = ensureNamedCache(cacheName);
+            cache.addIndex(MultiplexedKey.REGION_NAME_EXTRACTOR, false, null);
+            this.multiplexedNamedCache = cache;
+        }
+        return this.multiplexedNamedCache;
+    }
+
+    /**
+     * Ensure the initialization of the NamedCache holding the epochs and locks of regions, which is shared by all
+     * session factories, the keys being derived from the qualified names of the NamedCaches of the regions.
+     * It is read on every access to a region, so that it is published through a volatile field, and only its
+     * acquisition is synchronized.
+     * @return the region metadata cache, or null if this CoherenceRegionFactory has no Coherence session
+     * @see #REGION_METADATA_CACHE_NAME
+     */
+    public NamedCache<String, Object> ensureRegionMetadataCache() {
+        NamedCache<String, Object> cache = this.regionMetadataCache;
+        if (cache != null && !cache.isReleased()) {
+            return cache;
+        }
+        synchronized (this) {
+            cache = this.regionMetadataCache;
+            if (cache == null || cache.isReleased()) {
+                if (this.coherenceSession == null) {
+                    return null;
+                }
+                cache = this.coherenceSession.getCache(REGION_METADATA_CACHE_NAME);
+                this.regionMetadataCache = cache;
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Maps the NamedCache of the argument name to the caching scheme dedicated to regions of the argument type, if
+     * service isolation is enabled, so that it is implemented by a cache service of its own, and with the parameters
+     * given by the {@link RegionCacheSettings} of the region, if any.
+     * @param cacheName the unqualified name of the NamedCache
+     * @param regionType the type of the region implemented by the NamedCache, or null if it is unknown
+     * @param settings the RegionCacheSettings of the region, or null if none are specified
+     * @see CoherenceHibernateProperties#SERVICE_ISOLATION_PROPERTY_NAME
+     */
+    protected void mapNamedCache(String cacheName, RegionType regionType, RegionCacheSettings settings) {
+        final String cacheConfigFilePath = this.mappedCacheConfigFilePath;
+        final String dedicatedSchemeName = (this.serviceIsolation && regionType != null) ? regionType.getSchemeName() : null;
+        if (cacheConfigFilePath == null || (dedicatedSchemeName == null && settings == null)) {
+            return;
+        }
+        final ConfigurableCacheFactory cacheFactory = CacheFactory.getCacheFactoryBuilder()
+                .getConfigurableCacheFactory(cacheConfigFilePath, getClass().getClassLoader());
+        CacheMappings.remapSharedCacheMapping(cacheFactory, RegionNameQualifier.INSTANCE.qualify(cacheName, getOptions()),
+                dedicatedSchemeName, settings);
+    }
+
     @Override
     protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
                                                                     DomainDataRegionBuildingContext buildingContext) {
-        return new CoherenceStorageAccessImpl(
-                this.createCoherenceRegion(regionConfig.getRegionName(), buildingContext.getSessionFactory())
-        );
+        registerReadOnlyEntities(regionConfig, buildingContext.getSessionFactory());
+        final CoherenceRegion region = this.createCoherenceRegion(regionConfig.getRegionName(), buildingContext.getSessionFactory(),
+                getRegionType(regionConfig));
+        if (this.snapshotDirectory != null && isImmutableRegion(regionConfig)) {
+            scheduleSnapshots(region);
+        }
+        return new CoherenceStorageAccessImpl(region);
+    }
+
+    /**
+     * Preloads the read-only entities cached in the region of the argument name from the database, putting those not
+     * present in the region already. If Coherence is started in the background, waits for the startup to complete.
+     * @param regionName the unqualified name of the region
+     * @return the number of cache values put
+     * @throws IllegalArgumentException if the region caches no read-only entities
+     * @see CoherenceRegion#PRELOAD_SETTING_NAME
+     */
+    public int preloadRegion(String regionName) {
+        final List<String> entityNames = this.readOnlyEntityNames.get(regionName);
+        if (entityNames == null) {
+            throw new IllegalArgumentException(String.format("Region '%s' caches no read-only entities.", regionName));
+        }
+        final CompletableFuture<Void> startup = this.coherenceStartup;
+        if (startup != null) {
+            startup.join();
+        }
+        return EntityPreloader.preload(this.preloadSessionFactory, entityNames, this.preloadBatchSize);
+    }
+
+    /**
+     * Records the read-only entities cached in the region configured by the argument DomainDataRegionConfig, so that
+     * the region can be preloaded, and schedules preloading it once the SessionFactory is created if the region is
+     * configured to.
+     * @param regionConfig the DomainDataRegionConfig of the region
+     * @param sessionFactory the SessionFactory the region is built for
+     */
+    private void registerReadOnlyEntities(DomainDataRegionConfig regionConfig, SessionFactoryImplementor sessionFactory) {
+        final List<String> entityNames = new ArrayList<>();
+        for (EntityDataCachingConfig entityConfig : regionConfig.getEntityCaching()) {
+            if (entityConfig.getAccessType() == AccessType.READ_ONLY) {
+                entityNames.add(entityConfig.getNavigableRole().getFullPath());
+            }
+        }
+        if (entityNames.isEmpty()) {
+            return;
+        }
+        final String regionName = regionConfig.getRegionName();
+        final Map<String, Object> properties = sessionFactory.getProperties();
+        this.readOnlyEntityNames.put(regionName, entityNames);
+        this.preloadSessionFactory = sessionFactory;
+        this.preloadBatchSize = getPreloadBatchSize(properties);
+        final Object preload = properties.get(CoherenceRegion.getRegionPropertyName(regionName, CoherenceRegion.PRELOAD_SETTING_NAME));
+        if (preload != null && Boolean.parseBoolean(preload.toString())) {
+            if (this.startupPreloadRegionNames.isEmpty()) {
+                //the entities can only be queried once the SessionFactory is created
+                sessionFactory.addObserver(new SessionFactoryObserver() {
+                    @Override
+                    public void sessionFactoryCreated(SessionFactory factory) {
+                        preloadInBackground();
+                    }
+                });
+            }
+            this.startupPreloadRegionNames.add(regionName);
+        }
+    }
+
+    /**
+     * Returns the preload batch size given by the argument properties. Invalid values are logged and ignored.
+     * @param properties the properties of the SessionFactory
+     * @return the preload batch size, or {@link CoherenceRegion#DEFAULT_PRELOAD_BATCH_SIZE} if none or an invalid one
+     * is given
+     */
+    private static int getPreloadBatchSize(Map<String, Object> properties) {
+        final Object propertyValue = properties.get(CoherenceRegion.PRELOAD_BATCH_SIZE_PROPERTY_NAME);
+        if (propertyValue == null) {
+            return CoherenceRegion.DEFAULT_PRELOAD_BATCH_SIZE;
+        }
+        int batchSize;
+        try {
+            batchSize = Integer.parseInt(propertyValue.toString().trim());
+        }
+        catch (NumberFormatException ex) {
+            batchSize = 0;
+        }
+        if (batchSize <= 0) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Invalid value '{}' of property {}, which must be a positive integer; using default of {}.",
+                        propertyValue, CoherenceRegion.PRELOAD_BATCH_SIZE_PROPERTY_NAME, CoherenceRegion.DEFAULT_PRELOAD_BATCH_SIZE);
+            }
+            return CoherenceRegion.DEFAULT_PRELOAD_BATCH_SIZE;
+        }
+        return batchSize;
+    }
+
+    /**
+     * Preloads the regions configured to be preloaded on startup in the background, one after the other.
+     */
+    private void preloadInBackground() {
+        final List<String> regionNames = new ArrayList<>(this.startupPreloadRegionNames);
+        final Thread thread = new Thread(() -> {
+            for (String regionName : regionNames) {
+                try {
+                    preloadRegion(regionName);
+                }
+                catch (Exception ex) {
+                    if (LOGGER.isWarnEnabled()) {
+                        LOGGER.warn("Unable to preload region '{}'.", regionName, ex);
+                    }
+                }
+            }
+        }, "CoherenceHibernatePreload");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     @Override
     protected StorageAccess createTimestampsRegionStorageAccess(
             String regionName,
             SessionFactoryImplementor sessionFactory) {
-        return new CoherenceStorageAccessImpl(this.createCoherenceRegion(regionName, sessionFactory));
+        return new CoherenceStorageAccessImpl(this.createCoherenceRegion(regionName, sessionFactory, RegionType.TIMESTAMPS));
     }
 
     @Override
     protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
-        return new CoherenceStorageAccessImpl(this.createCoherenceRegion(regionName, sessionFactory));
+        return new CoherenceStorageAccessImpl(this.createCoherenceRegion(regionName, sessionFactory, RegionType.QUERY_RESULTS));
+    }
+
+    /**
+     * Returns whether the region configured by the argument DomainDataRegionConfig only caches read-only or immutable
+     * data, whose cache values are never updated once cached.
+     * @param regionConfig the DomainDataRegionConfig of the region
+     * @return whether the region only caches read-only or immutable data
+     */
+    private static boolean isImmutableRegion(DomainDataRegionConfig regionConfig) {
+        final List<DomainDataCachingConfig> cachingConfigs = new ArrayList<>();
+        cachingConfigs.addAll(regionConfig.getEntityCaching());
+        cachingConfigs.addAll(regionConfig.getCollectionCaching());
+        cachingConfigs.addAll(regionConfig.getNaturalIdCaching());
+        for (DomainDataCachingConfig cachingConfig : cachingConfigs) {
+            if (cachingConfig.getAccessType() != AccessType.READ_ONLY && cachingConfig.isMutable()) {
+                return false;
+            }
+        }
+        return !cachingConfigs.isEmpty();
+    }
+
+    /**
+     * Returns the type of the domain data region configured by the argument DomainDataRegionConfig. A region holding
+     * data of several types is considered to hold entities if it holds any, and collections otherwise.
+     * @param regionConfig the DomainDataRegionConfig of the region
+     * @return the type of the region
+     */
+    private static RegionType getRegionType(DomainDataRegionConfig regionConfig) {
+        if (!regionConfig.getEntityCaching().isEmpty()) {
+            return RegionType.ENTITY;
+        }
+        if (!regionConfig.getCollectionCaching().isEmpty()) {
+            return RegionType.COLLECTION;
+        }
+        return RegionType.NATURAL_ID;
     }
 
     protected CoherenceRegion createCoherenceRegion(final String unqualifiedRegionName,
                                                     final SessionFactoryImplementor sessionFactory) {
-        return new CoherenceRegion(this, this.ensureNamedCache(unqualifiedRegionName), sessionFactory.getProperties());
+        return createCoherenceRegion(unqualifiedRegionName, sessionFactory, null);
+    }
+
+    /**
+     * Creates a CoherenceRegion of the argument name and type.
+     * @param unqualifiedRegionName the unqualified name of the region
+     * @param sessionFactory the SessionFactory the region is built for
+     * @param regionType the type of the region, or null if it is unknown
+     * @return the CoherenceRegion
+     */
+    protected CoherenceRegion createCoherenceRegion(final String unqualifiedRegionName,
+                                                    final SessionFactoryImplementor sessionFactory,
+                                                    final RegionType regionType) {
+        final Map<String, Object> properties = sessionFactory.getProperties();
+        final Supplier<NamedCache> ensuringSupplier;
+        if (CoherenceRegion.isMultiplexedRegion(properties, unqualifiedRegionName)) {
+            final String multiplexedCacheName = CoherenceRegion.getMultiplexedCacheName(properties);
+            ensuringSupplier = () -> this.ensureMultiplexedNamedCache(multiplexedCacheName);
+        }
+        else {
+            final RegionCacheSettings settings = RegionCacheSettings.getRegionCacheSettings(unqualifiedRegionName, properties);
+            ensuringSupplier = () -> {
+                mapNamedCache(unqualifiedRegionName, regionType, settings);
+                return this.ensureNamedCache(unqualifiedRegionName);
+            };
+        }
+        //unless acquired in the background, the NamedCache is only acquired once the region is used
+        final Supplier<NamedCache> namedCacheSupplier = (this.cacheAcquisitionExecutor != null) ?
+                acquireNamedCacheInBackground(ensuringSupplier) :
+                ensuringSupplier;
+        final CoherenceRegion region = new CoherenceRegion(this, RegionNameQualifier.INSTANCE.qualify(unqualifiedRegionName, getOptions()),
+                namedCacheSupplier, properties, unqualifiedRegionName);
+        if (this.regionManagement) {
+            final String sessionFactoryName = (sessionFactory.getName() != null) ? sessionFactory.getName() : sessionFactory.getUuid();
+            final ObjectName objectName = CoherenceRegionSettings.register(region, sessionFactoryName);
+            if (objectName != null) {
+                this.regionMBeanNames.add(objectName);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Restores the argument region from its snapshot in the background, and schedules taking snapshots of it
+     * periodically. Restoring a region acquires its NamedCache right away. Only regions caching read-only or immutable
+     * data are snapshotted, as their cache values cannot have been updated since the snapshot was taken. They may still
+     * have been evicted, e.g. because their entities were deleted, so that the invalidations of the region are recorded,
+     * and a snapshot taken before the latest one is not restored. If none is recorded, e.g. after a restart of the whole
+     * cluster, only a final snapshot is restored.
+     * @param region the region
+     * @see CoherenceHibernateProperties#SNAPSHOT_DIRECTORY_PROPERTY_NAME
+     */
+    private void scheduleSnapshots(CoherenceRegion region) {
+        region.recordInvalidations();
+        this.snapshotRegions.add(region);
+        getScheduler().execute(() -> restoreSnapshot(region));
+        region.schedule(SNAPSHOT_TASK_NAME, () -> writeSnapshot(region, false), this.snapshotInterval);
+    }
+
+    /**
+     * Restores the argument region from its snapshot, if any.
+     * @param region the region
+     */
+    private void restoreSnapshot(CoherenceRegion region) {
+        try {
+            final CompletableFuture<Void> startup = this.coherenceStartup;
+            if (startup != null) {
+                startup.join();
+            }
+            final RegionSnapshot snapshot = RegionSnapshot.readFrom(getSnapshotFile(region.getName()));
+            if (snapshot != null) {
+                region.restoreSnapshot(snapshot);
+            }
+        }
+        catch (Exception ex) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Unable to restore {} from its snapshot.", region, ex);
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the argument region and writes it to its snapshot file, unless the region is not available
+     * or another member holds the lease on taking its snapshots, so that a single member writes each snapshot. A
+     * snapshot taken on shutdown by the only member left running the cache service of the region is final, and taken
+     * regardless of the lease, which a member gone meanwhile may still hold.
+     * @param region the region
+     * @param shutdown whether the snapshot is taken as this member shuts down
+     * @see RegionSnapshot#isFinal()
+     */
+    private void writeSnapshot(CoherenceRegion region, boolean shutdown) {
+        if (!region.isAvailable() || !region.isNamedCacheAcquired()) {
+            return;
+        }
+        try {
+            final boolean finalSnapshot = shutdown && region.isOnlyServiceMember();
+            if (!finalSnapshot && !region.acquireTaskLease(SNAPSHOT_TASK_NAME, 2L * this.snapshotInterval)) {
+                return;
+            }
+            final RegionSnapshot snapshot = region.writeSnapshot(getSnapshotFile(region.getName()), finalSnapshot);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Wrote a snapshot of {} entries of {}.", snapshot.size(), region);
+            }
+        }
+        catch (Exception ex) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Unable to write a snapshot of {}.", region, ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the snapshot file of the region implemented by the NamedCache of the argument name.
+     * @param cacheName the qualified name of the NamedCache
+     * @return the snapshot file
+     */
+    private Path getSnapshotFile(String cacheName) {
+        return this.snapshotDirectory.resolve(cacheName.replaceAll("[^A-Za-z0-9._-]", "_") + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Starts acquiring a NamedCache by the argument Supplier in the background, concurrently with the
+     * NamedCaches of other regions, and returns a Supplier waiting for its acquisition. If Coherence is started in the
+     * background, the NamedCache is acquired once the startup completed.
+     * @param ensuringSupplier the Supplier ensuring the initialization of the NamedCache
+     * @return a Supplier of the NamedCache, which rethrows any exception thrown while acquiring it
+     */
+    private Supplier<NamedCache> acquireNamedCacheInBackground(Supplier<NamedCache> ensuringSupplier) {
+        final CompletableFuture<Void> startup = this.coherenceStartup;
+        final CompletableFuture<NamedCache> namedCacheFuture = (startup != null) ?
+                startup.thenApplyAsync((ignored) -> ensuringSupplier.get(), this.cacheAcquisitionExecutor) :
+                CompletableFuture.supplyAsync(ensuringSupplier, this.cacheAcquisitionExecutor);
+        return () -> {
+            try {
+                return namedCacheFuture.join();
+            }
+            catch (CompletionException ex) {
+                throw (ex.getCause() instanceof RuntimeException) ? (RuntimeException) ex.getCause() : ex;
+            }
+        };
     }
 
     @Override
@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.hibernate.cache.v6.access;
 
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.AccessType;
@@ -64,8 +65,12 @@ public class CoherenceReadOnlyNaturalIdAccess extends AbstractCoherenceEntityDat
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("afterInsert({}, {})", key, value);
         }
-        getCoherenceRegion().putValue(key, newCacheValue(value, null));
-        return true;
+        final CoherenceRegionValue cacheValue = newCacheValue(value, null);
+        if (bufferBulkInsert(session, key, cacheValue)) {
+            return true;
+        }
+        getCoherenceRegion().putValue(key, cacheValue);
+        return markPresentIf(key, true);
     }
 
     /**
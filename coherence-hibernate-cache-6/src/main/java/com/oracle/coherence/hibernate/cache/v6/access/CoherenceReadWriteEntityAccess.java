@@ -1,18 +1,27 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
  */
 package com.oracle.coherence.hibernate.cache.v6.access;
 
+import java.io.Serializable;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
+import com.oracle.coherence.hibernate.cache.v6.access.processor.DeltaAfterUpdateProcessor;
+import com.oracle.coherence.hibernate.cache.v6.region.DisassembledCacheEntry;
+import com.oracle.coherence.hibernate.cache.v6.region.UpdateMode;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.support.AbstractDomainDataRegion;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -32,6 +41,23 @@ public class CoherenceReadWriteEntityAccess extends AbstractReadWriteCoherenceEn
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EntityDataAccess.class);
 
+    /**
+     * The maximum number of cache entries remembered as the base for computing delta updates.
+     */
+    private static final int MAX_DELTA_BASE_CACHE_ENTRIES = 1024;
+
+    /**
+     * The cache entries last seen by this access strategy, by key, serving as the base for computing delta updates
+     * if the region is configured with {@link UpdateMode#DELTA}.
+     */
+    private final Map<Object, StandardCacheEntryImpl> deltaBaseCacheEntries = Collections.synchronizedMap(
+            new LinkedHashMap<Object, StandardCacheEntryImpl>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, StandardCacheEntryImpl> eldest) {
+                    return size() > MAX_DELTA_BASE_CACHE_ENTRIES;
+                }
+            });
+
     /**
      * Complete constructor.
      *
@@ -44,6 +70,29 @@ public class CoherenceReadWriteEntityAccess extends AbstractReadWriteCoherenceEn
         super(domainDataRegion, domainDataStorageAccess, versionComparator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(SharedSessionContractImplementor session, Object key) throws CacheException {
+        final Object cachedValue = super.get(session, key);
+        final Object value = (cachedValue instanceof DisassembledCacheEntry)
+                ? ((DisassembledCacheEntry) cachedValue).toCacheEntry(session.getFactory())
+                : cachedValue;
+        rememberDeltaBase(key, value);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version, boolean minimalPutOverride)
+            throws CacheException {
+        rememberDeltaBase(key, value);
+        return super.putFromLoad(session, key, toStoredValue(value), version, minimalPutOverride);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -71,7 +120,8 @@ public class CoherenceReadWriteEntityAccess extends AbstractReadWriteCoherenceEn
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("insert({}, {}, {})", key, value, version);
         }
-        return super.afterInsert(key, newCacheValue(value, version));
+        rememberDeltaBase(key, value);
+        return super.afterInsert(session, key, newCacheValue(toStoredValue(value), version));
     }
 
     /**
@@ -102,7 +152,117 @@ public class CoherenceReadWriteEntityAccess extends AbstractReadWriteCoherenceEn
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("afterUpdate({}, {}, {}, {}, {})", key, value, currentVersion, previousVersion, lock);
         }
-        return afterUpdate(key, newCacheValue(value, currentVersion), lock);
+        final DeltaAfterUpdateProcessor deltaProcessor = newDeltaAfterUpdateProcessor(key, value, currentVersion, previousVersion, lock);
+        rememberDeltaBase(key, value);
+        if (deltaProcessor != null) {
+            recordSoftLockRelease(lock);
+            return markPresentIf(key, (Boolean) getCoherenceRegion().invoke(key, withTimeToLive(deltaProcessor)));
+        }
+        //the fallback records the release of the soft lock itself
+        return afterUpdate(key, newCacheValue(toStoredValue(value), currentVersion), lock);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) throws CacheException {
+        this.deltaBaseCacheEntries.remove(key);
+        super.evict(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictAll() throws CacheException {
+        this.deltaBaseCacheEntries.clear();
+        super.evictAll();
+    }
+
+    /**
+     * Returns a DeltaAfterUpdateProcessor carrying only the property slots of the argument value that changed with
+     * respect to the cache entry last seen at the argument key, or null if the region is not configured with
+     * {@link UpdateMode#DELTA} or no such delta can be computed, or if it would not be considerably smaller than the
+     * argument value.
+     * @param key the key at which to update a value
+     * @param value the updated value
+     * @param currentVersion the version of the updated value
+     * @param previousVersion the version the update started from
+     * @param lock the softLock acquired in an earlier lockItem call with the argument key
+     * @return a DeltaAfterUpdateProcessor or null
+     */
+    private DeltaAfterUpdateProcessor newDeltaAfterUpdateProcessor(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock) {
+        //For unversioned entities we cannot tell whether the present cache value is the state the delta is computed against.
+        if (UpdateMode.DELTA != getCoherenceRegion().getUpdateMode() || previousVersion == null
+                || !(value instanceof StandardCacheEntryImpl)) {
+            return null;
+        }
+        final StandardCacheEntryImpl baseCacheEntry = this.deltaBaseCacheEntries.get(key);
+        final StandardCacheEntryImpl cacheEntry = (StandardCacheEntryImpl) value;
+        if (baseCacheEntry == null || !Objects.equals(previousVersion, baseCacheEntry.getVersion())
+                || !Objects.equals(baseCacheEntry.getSubclass(), cacheEntry.getSubclass())) {
+            return null;
+        }
+        final Serializable[] baseState = baseCacheEntry.getDisassembledState();
+        final Serializable[] state = cacheEntry.getDisassembledState();
+        if (baseState.length != state.length) {
+            return null;
+        }
+        final int[] slots = new int[state.length];
+        int changedSlotCount = 0;
+        for (int i = 0; i < state.length; i++) {
+            if (!Objects.deepEquals(baseState[i], state[i])) {
+                slots[changedSlotCount++] = i;
+            }
+        }
+        if (changedSlotCount * 2 > state.length) {
+            return null;
+        }
+        final int[] changedSlots = new int[changedSlotCount];
+        final Serializable[] changedValues = new Serializable[changedSlotCount];
+        for (int i = 0; i < changedSlotCount; i++) {
+            changedSlots[i] = slots[i];
+            changedValues[i] = state[slots[i]];
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sending {} of {} property slots of {} to update {}", changedSlotCount, state.length, cacheEntry.getSubclass(), key);
+        }
+        final long timestamp = getCoherenceRegion().nextTimestamp();
+        return new DeltaAfterUpdateProcessor(previousVersion, currentVersion, cacheEntry.getSubclass(), changedSlots, changedValues,
+                timestamp, lock, timestamp);
+    }
+
+    /**
+     * Returns the value to store in the cache for the argument value. With {@link UpdateMode#DELTA}, cache entries
+     * are stored as a {@link DisassembledCacheEntry}, so that delta updates can be applied to them in the storage
+     * member.
+     * @param value a value to store in the cache
+     * @return the argument value or a DisassembledCacheEntry holding its state
+     */
+    private Object toStoredValue(Object value) {
+        if (UpdateMode.DELTA != getCoherenceRegion().getUpdateMode() || !(value instanceof StandardCacheEntryImpl)) {
+            return value;
+        }
+        return DisassembledCacheEntry.of((StandardCacheEntryImpl) value);
+    }
+
+    /**
+     * Remembers the argument value as the base for computing a delta update at the argument key, if the region is
+     * configured with {@link UpdateMode#DELTA}.
+     * @param key the key of the argument value
+     * @param value the value last seen at the argument key
+     */
+    private void rememberDeltaBase(Object key, Object value) {
+        if (UpdateMode.DELTA != getCoherenceRegion().getUpdateMode()) {
+            return;
+        }
+        if (value instanceof StandardCacheEntryImpl) {
+            this.deltaBaseCacheEntries.put(key, (StandardCacheEntryImpl) value);
+        }
+        else {
+            this.deltaBaseCacheEntries.remove(key);
+        }
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -66,7 +66,7 @@ public class CoherenceReadWriteNaturalIdAccess extends AbstractReadWriteCoherenc
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("afterInsert({}, {})", key, value);
         }
-        return afterInsert(key, newCacheValue(value, null));
+        return afterInsert(session, key, newCacheValue(value, null));
     }
 
     /**
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Transaction;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An EntityPreloader loads all entities of a cached entity type from the database and puts them into their region,
+ * so that the region is warm before the entities are first read. The entities are streamed through
+ * {@link ScrollableResults}, and put in batches, each by one invocation per cluster member owning some of the keys,
+ * rather than one at a time by putFromLoad calls. Cache values present already are left in place.
+ *
+ * Preloading is meant for read-only entities, whose cache values cannot become stale while they are preloaded.
+ *
+ * @since 3.0.4
+ */
+public final class EntityPreloader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityPreloader.class);
+
+    private EntityPreloader() {
+    }
+
+    /**
+     * Preloads all entities of the argument entity names into their region. As queries are polymorphic, the entities
+     * of each entity hierarchy are loaded once, by querying its root entity, regardless of how many of its entity
+     * names are given.
+     * @param sessionFactory the SessionFactory mapping the entities
+     * @param entityNames the names of the entities
+     * @param batchSize the number of entities fetched and put at once
+     * @return the number of cache values put, which excludes those present already
+     */
+    public static int preload(SessionFactoryImplementor sessionFactory, Collection<String> entityNames, int batchSize) {
+        final Set<String> rootEntityNames = new LinkedHashSet<>();
+        for (String entityName : entityNames) {
+            rootEntityNames.add(sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName).getRootEntityName());
+        }
+        int putCount = 0;
+        for (String rootEntityName : rootEntityNames) {
+            putCount += preloadHierarchy(sessionFactory, rootEntityName, batchSize);
+        }
+        return putCount;
+    }
+
+    /**
+     * Preloads all entities of the argument root entity name, including its subclasses, into their region.
+     * @param sessionFactory the SessionFactory mapping the entity
+     * @param entityName the name of the root entity of the entity hierarchy
+     * @param batchSize the number of entities fetched and put at once
+     * @return the number of cache values put, which excludes those present already
+     */
+    private static int preloadHierarchy(SessionFactoryImplementor sessionFactory, String entityName, int batchSize) {
+        final EntityPersister rootPersister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName);
+        final EntityDataAccess cacheAccess = rootPersister.getCacheAccessStrategy();
+        if (!(cacheAccess instanceof AbstractCoherenceEntityDataAccess)) {
+            throw new IllegalArgumentException(String.format("Entity '%s' is not cached in a Coherence region.", entityName));
+        }
+        final AbstractCoherenceEntityDataAccess coherenceAccess = (AbstractCoherenceEntityDataAccess) cacheAccess;
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Preloading entity '{}' into {}.", entityName, coherenceAccess.getCoherenceRegion());
+        }
+
+        int putCount = 0;
+        int loadCount = 0;
+        try (SessionImplementor session = (SessionImplementor) sessionFactory.openSession()) {
+            //the entities are put in batches below rather than one at a time from load
+            session.setCacheMode(CacheMode.IGNORE);
+            session.setDefaultReadOnly(true);
+            final Transaction transaction = session.beginTransaction();
+            try (ScrollableResults<Object> results = session.createQuery("from " + entityName, Object.class)
+                    .setFetchSize(batchSize)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                final Map<Object, CoherenceRegionValue> cacheValues = new LinkedHashMap<>();
+                while (results.next()) {
+                    final Object entity = results.get();
+                    final EntityEntry entry = session.getPersistenceContextInternal().getEntry(entity);
+                    final EntityPersister persister = entry.getPersister();
+                    final Object cacheKey = cacheAccess.generateCacheKey(entry.getId(), persister, sessionFactory, session.getTenantIdentifier());
+                    //read-only entities keep no loaded state, so the state is taken from the entity itself
+                    final CacheEntry cacheEntry = persister.buildCacheEntry(entity, persister.getValues(entity), entry.getVersion(), session);
+                    cacheValues.put(cacheKey, coherenceAccess.newCacheValue(persister.getCacheEntryStructure().structure(cacheEntry), entry.getVersion()));
+                    loadCount++;
+                    if (cacheValues.size() >= batchSize) {
+                        putCount += coherenceAccess.putAllIfAbsent(cacheValues);
+                        cacheValues.clear();
+                        session.clear();
+                    }
+                }
+                if (!cacheValues.isEmpty()) {
+                    putCount += coherenceAccess.putAllIfAbsent(cacheValues);
+                }
+            }
+            finally {
+                transaction.rollback();
+            }
+        }
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Preloaded {} of {} loaded entities '{}'.", putCount, loadCount, entityName);
+        }
+        return putCount;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,7 @@ package com.oracle.coherence.hibernate.cache.v6.access.processor;
 import java.io.Serializable;
 
 import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.SoftLockState;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.processor.AbstractProcessor;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -63,19 +64,19 @@ public class AfterUpdateProcessor extends AbstractProcessor implements Serializa
     @Override
     public Object process(InvocableMap.Entry entry) {
         if (entry.isPresent()) {
-            final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
-            cacheValue.releaseSoftLock(this.softLock, this.timeOfSoftLockRelease);
-            if (cacheValue.isSoftLocked()) {
+            final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+            softLockState.releaseSoftLock(this.softLock, this.timeOfSoftLockRelease);
+            if (softLockState.isSoftLocked()) {
                 //The cache value being processed was soft-locked concurrently by multiple Hibernate transactions.
                 //Under this condition we will not replace the cache value with the updated one.
                 //But we need to save the mutation to the present value's state (i.e. the release of a soft lock).
-                entry.setValue(cacheValue);
+                SoftLockDecorations.setSoftLockState(entry, softLockState);
                 return false;
             }
             else {
                 //The cache value was soft-locked by only one Hibernate transaction.
                 //Under this condition we can replace it with the updated one.
-                entry.setValue(this.replacementValue);
+                SoftLockDecorations.setValue(entry, this.replacementValue);
                 return true;
             }
         }
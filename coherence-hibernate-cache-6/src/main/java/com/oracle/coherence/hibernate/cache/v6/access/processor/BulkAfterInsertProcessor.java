@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegion;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * A BulkAfterInsertProcessor is an EntryProcessor responsible for inserting the values of many entities into cache,
+ * each if none is present at its key, as an {@link AfterInsertProcessor} does for a single entity. It is meant to be
+ * invoked on all the keys of its values at once, and returns for each a boolean indicating whether it inserted it.
+ *
+ * @since 3.0.4
+ */
+public class BulkAfterInsertProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -1748825703265338512L;
+
+    /**
+     * The cache values to insert, by key.
+     */
+    private Map<Object, CoherenceRegionValue> cacheValues;
+
+    /**
+     * Complete constructor.
+     * @param cacheValues the cache values to insert, by key
+     */
+    public BulkAfterInsertProcessor(Map<Object, CoherenceRegionValue> cacheValues) {
+        this.cacheValues = cacheValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        //the cache values are keyed by their key in the region, which may be qualified in the NamedCache
+        final Object key = CoherenceRegion.toRegionKey(entry.getKey());
+        final CoherenceRegionValue cacheValue = this.cacheValues.get(key);
+        if (cacheValue == null || entry.isPresent()) {
+            return false;
+        }
+        else {
+            entry.setValue(cacheValue);
+            return true;
+        }
+    }
+}
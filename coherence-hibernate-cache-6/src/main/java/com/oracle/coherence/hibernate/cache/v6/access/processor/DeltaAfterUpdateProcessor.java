@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.DisassembledCacheEntry;
+import com.oracle.coherence.hibernate.cache.v6.region.SoftLockState;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+import org.hibernate.cache.spi.access.SoftLock;
+
+/**
+ * A AbstractReadWriteCoherenceEntityDataAccess.DeltaAfterUpdateProcessor is an EntryProcessor
+ * responsible for updating an entity value in a second-level cache by applying only the changed
+ * property slots of its {@link DisassembledCacheEntry}, and returning a boolean indicating whether it did so,
+ * consistent with the expected behavior of a read-write cache access strategy's afterUpdate() method.
+ *
+ * The delta is only applied if the present cache value holds the entity state the delta was computed
+ * against, i.e. if it has the version the updating transaction started from. Otherwise the present cache
+ * value is invalidated, to be repopulated by a subsequent putFromLoad call.
+ *
+ * We move this behavior into the grid for efficient concurrency control.
+ *
+ * @since 3.0.4
+ */
+public class DeltaAfterUpdateProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = 5140713380296584721L;
+
+    /**
+     * The version of the entity state the delta was computed against.
+     */
+    private Object baseVersion;
+
+    /**
+     * The version of the updated entity state.
+     */
+    private Object version;
+
+    /**
+     * The entity (sub-)class name of the updated entity state.
+     */
+    private String subclass;
+
+    /**
+     * The indexes of the changed property slots in the disassembled entity state.
+     */
+    private int[] changedSlots;
+
+    /**
+     * The disassembled values of the changed property slots.
+     */
+    private Serializable[] changedValues;
+
+    /**
+     * The timestamp of the updated cache value.
+     */
+    private long timestamp;
+
+    /**
+     * A SoftLock presumably acquired by a previous lockItem call on the entry being processed.
+     */
+    private SoftLock softLock;
+
+    /**
+     * The potential time at which all locks on the entry being processed were released.
+     */
+    private long timeOfSoftLockRelease;
+
+    /**
+     * Complete constructor.
+     * @param baseVersion the version of the entity state the delta was computed against
+     * @param version the version of the updated entity state
+     * @param subclass the entity (sub-)class name of the updated entity state
+     * @param changedSlots the indexes of the changed property slots in the disassembled entity state
+     * @param changedValues the disassembled values of the changed property slots
+     * @param timestamp the timestamp of the updated cache value
+     * @param softLock a SoftLock presumably acquired by a previous lockItem call on the entry being processed
+     * @param timeOfSoftLockRelease the potential time at which all locks on the entry being processed were released
+     */
+    public DeltaAfterUpdateProcessor(Object baseVersion, Object version, String subclass, int[] changedSlots,
+                                     Serializable[] changedValues, long timestamp, SoftLock softLock, long timeOfSoftLockRelease) {
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.subclass = subclass;
+        this.changedSlots = changedSlots;
+        this.changedValues = changedValues;
+        this.timestamp = timestamp;
+        this.softLock = softLock;
+        this.timeOfSoftLockRelease = timeOfSoftLockRelease;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        if (!entry.isPresent()) {
+            //as in AfterUpdateProcessor, we will not modify cache contents if the updated value is not present
+            return false;
+        }
+        final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+        softLockState.releaseSoftLock(this.softLock, this.timeOfSoftLockRelease);
+        if (softLockState.isSoftLocked()) {
+            //The cache value being processed was soft-locked concurrently by multiple Hibernate transactions.
+            //Under this condition we will not update the cache value, but save the release of the soft lock.
+            SoftLockDecorations.setSoftLockState(entry, softLockState);
+            return false;
+        }
+        final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
+        final DisassembledCacheEntry updatedCacheEntry = applyTo(cacheValue);
+        if (updatedCacheEntry == null) {
+            //The present cache value is not the state the delta was computed against, so it cannot be brought
+            //up to date here; invalidate it for a subsequent putFromLoad call to repopulate.
+            cacheValue.invalidate();
+            cacheValue.setSoftLockState(softLockState);
+            SoftLockDecorations.setValue(entry, cacheValue);
+            return false;
+        }
+        SoftLockDecorations.setValue(entry, new CoherenceRegionValue(updatedCacheEntry, this.version, this.timestamp));
+        return true;
+    }
+
+    /**
+     * Applies the delta to the argument cache value.
+     * @param cacheValue the present cache value
+     * @return the updated cache entry, or null if the delta is not applicable to the argument cache value
+     */
+    private DisassembledCacheEntry applyTo(CoherenceRegionValue cacheValue) {
+        if (!(cacheValue.getValue() instanceof DisassembledCacheEntry)
+                || !Objects.equals(this.baseVersion, cacheValue.getVersion())) {
+            return null;
+        }
+        final DisassembledCacheEntry baseCacheEntry = (DisassembledCacheEntry) cacheValue.getValue();
+        if (!Objects.equals(this.subclass, baseCacheEntry.getSubclass())
+                || !Objects.equals(this.baseVersion, baseCacheEntry.getVersion())) {
+            return null;
+        }
+        return baseCacheEntry.withChangedSlots(this.version, this.changedSlots, this.changedValues);
+    }
+}
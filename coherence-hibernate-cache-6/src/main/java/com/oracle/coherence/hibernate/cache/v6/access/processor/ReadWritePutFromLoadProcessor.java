@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -21,6 +21,14 @@ import com.tangosol.util.processor.AbstractProcessor;
  *
  * We move this behavior into the grid for efficient concurrency control.
  *
+ * The version comparator may be referenced by its id in the {@link VersionComparatorRegistry} instead of being
+ * sent along. If it is needed but not registered on the storage member, the processor returns
+ * {@link Result#UNKNOWN_VERSION_COMPARATOR}, and is expected to be invoked again with the comparator itself, which it
+ * then registers.
+ *
+ * A value loaded by a transaction which started before the region was last released from a
+ * {@link com.oracle.coherence.hibernate.cache.v6.region.RegionLock} may predate a bulk update, and is rejected.
+ *
  * @author Randy Stafford
  */
 public class ReadWritePutFromLoadProcessor extends AbstractProcessor implements Serializable {
@@ -47,21 +55,63 @@ public class ReadWritePutFromLoadProcessor extends AbstractProcessor implements
     private long txTimestamp;
 
     /**
-     * A comparator for comparing actual value versions.
+     * The time at which the region was last released from its RegionLock, as known to the caller, or 0 if it never
+     * was locked.
+     */
+    private long regionLockReleaseTime;
+
+    /**
+     * A comparator for comparing actual value versions, or null if it is referenced by its id only.
      */
     private Comparator versionComparator;
 
     /**
-     * Complete constructor.
+     * The id of the comparator for comparing actual value versions in the {@link VersionComparatorRegistry}.
+     */
+    private long versionComparatorId;
+
+    /**
+     * Constructs a ReadWritePutFromLoadProcessor carrying its comparator for comparing actual value versions.
      * @param minimalPutsInEffect a flag indicating whether "minimal puts" is in effect for Hibernate
      * @param txTimestamp from Hibernate javadoc, "a timestamp prior to the transaction start time" [where "the transaction" loaded the potential replacement value from database]
      * @param replacementValue the replacement cache value in this ReadWritePutFromLoadProcessor
      * @param versionComparator a Comparator for comparing actual value versions
      */
     public ReadWritePutFromLoadProcessor(boolean minimalPutsInEffect, long txTimestamp, CoherenceRegionValue replacementValue, Comparator versionComparator) {
+        this(minimalPutsInEffect, txTimestamp, replacementValue, VersionComparatorRegistry.UNREGISTERED_ID, versionComparator);
+    }
+
+    /**
+     * Constructs a ReadWritePutFromLoadProcessor for a region which was never locked.
+     * @param minimalPutsInEffect a flag indicating whether "minimal puts" is in effect for Hibernate
+     * @param txTimestamp from Hibernate javadoc, "a timestamp prior to the transaction start time" [where "the transaction" loaded the potential replacement value from database]
+     * @param replacementValue the replacement cache value in this ReadWritePutFromLoadProcessor
+     * @param versionComparatorId the id of the Comparator for comparing actual value versions in the {@link VersionComparatorRegistry}
+     * @param versionComparator a Comparator for comparing actual value versions, to be registered under the argument
+     * id, or null if it is to be looked up by the argument id
+     */
+    public ReadWritePutFromLoadProcessor(boolean minimalPutsInEffect, long txTimestamp, CoherenceRegionValue replacementValue,
+                                         long versionComparatorId, Comparator versionComparator) {
+        this(minimalPutsInEffect, txTimestamp, 0L, replacementValue, versionComparatorId, versionComparator);
+    }
+
+    /**
+     * Complete constructor.
+     * @param minimalPutsInEffect a flag indicating whether "minimal puts" is in effect for Hibernate
+     * @param txTimestamp from Hibernate javadoc, "a timestamp prior to the transaction start time" [where "the transaction" loaded the potential replacement value from database]
+     * @param regionLockReleaseTime the time at which the region was last released from its RegionLock, or 0 if it never was locked
+     * @param replacementValue the replacement cache value in this ReadWritePutFromLoadProcessor
+     * @param versionComparatorId the id of the Comparator for comparing actual value versions in the {@link VersionComparatorRegistry}
+     * @param versionComparator a Comparator for comparing actual value versions, to be registered under the argument
+     * id, or null if it is to be looked up by the argument id
+     */
+    public ReadWritePutFromLoadProcessor(boolean minimalPutsInEffect, long txTimestamp, long regionLockReleaseTime,
+                                         CoherenceRegionValue replacementValue, long versionComparatorId, Comparator versionComparator) {
         this.minimalPutsInEffect = minimalPutsInEffect;
         this.txTimestamp = txTimestamp;
+        this.regionLockReleaseTime = regionLockReleaseTime;
         this.replacementValue = replacementValue;
+        this.versionComparatorId = versionComparatorId;
         this.versionComparator = versionComparator;
     }
 
@@ -70,17 +120,54 @@ public class ReadWritePutFromLoadProcessor extends AbstractProcessor implements
      */
     @Override
     public Object process(InvocableMap.Entry entry) {
+        if (this.txTimestamp <= this.regionLockReleaseTime) {
+            //the value may have been read before a bulk update committed while the region was locked
+            return false;
+        }
         boolean isReplaceable = true;
         if (entry.isPresent()) {
-            if (this.minimalPutsInEffect) {
+            final CoherenceRegionValue presentValue = SoftLockDecorations.getValue(entry);
+            //a present cache value without an actual value (e.g. an invalidated one) does not count as present for minimal puts
+            if (this.minimalPutsInEffect && presentValue.getValue() != null) {
                 return false;
             }
-            final CoherenceRegionValue presentValue = (CoherenceRegionValue) entry.getValue();
-            isReplaceable = presentValue.isReplaceableFromLoad(this.txTimestamp, this.replacementValue.getVersion(), this.versionComparator);
+            final Comparator comparator = resolveVersionComparator();
+            if (comparator == null && presentValue.getVersion() != null
+                    && this.versionComparatorId != VersionComparatorRegistry.UNREGISTERED_ID) {
+                //the comparator is not registered on this member (yet); have the caller send it
+                return Result.UNKNOWN_VERSION_COMPARATOR;
+            }
+            isReplaceable = presentValue.isReplaceableFromLoad(this.txTimestamp, this.replacementValue.getVersion(), comparator);
         }
         if (isReplaceable) {
-            entry.setValue(this.replacementValue);
+            SoftLockDecorations.setValue(entry, this.replacementValue);
         }
         return isReplaceable;
     }
+
+    /**
+     * Returns the comparator for comparing actual value versions, registering it if it was sent along with its id.
+     * @return the Comparator, or null if it is neither sent along nor registered
+     */
+    private Comparator resolveVersionComparator() {
+        if (this.versionComparatorId == VersionComparatorRegistry.UNREGISTERED_ID) {
+            return this.versionComparator;
+        }
+        if (this.versionComparator != null) {
+            VersionComparatorRegistry.register(this.versionComparatorId, this.versionComparator);
+            return this.versionComparator;
+        }
+        return VersionComparatorRegistry.get(this.versionComparatorId);
+    }
+
+    /**
+     * The results of a ReadWritePutFromLoadProcessor other than a Boolean.
+     */
+    public enum Result {
+
+        /**
+         * The version comparator referenced by its id is not registered on the storage member.
+         */
+        UNKNOWN_VERSION_COMPARATOR
+    }
 }
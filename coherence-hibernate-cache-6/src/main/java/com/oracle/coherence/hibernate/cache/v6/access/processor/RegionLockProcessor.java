@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.io.Serializable;
+
+import com.oracle.coherence.hibernate.cache.v6.region.RegionLock;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.processor.AbstractProcessor;
+
+/**
+ * A RegionLockProcessor is an EntryProcessor acquiring or releasing the {@link RegionLock} of a region in the region
+ * metadata cache. A released RegionLock is kept as {@link RegionLock#UNLOCKED} rather than removed, so that the
+ * near-cached region metadata cache can answer whether the region is locked without a request to the cluster.
+ *
+ * @since 3.0.4
+ */
+public class RegionLockProcessor extends AbstractProcessor implements Serializable {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -4190374935162734021L;
+
+    /**
+     * The time at which the RegionLock is acquired or released.
+     */
+    private long timestamp;
+
+    /**
+     * The duration for which the acquired RegionLock is held at most, in the units of the timestamp, or 0 if it is
+     * being released.
+     */
+    private long leaseDuration;
+
+    /**
+     * Complete constructor.
+     * @param timestamp the time at which the RegionLock is acquired or released
+     * @param leaseDuration the duration for which the RegionLock is to be held at most, in the units of the timestamp,
+     * or 0 to release it
+     */
+    public RegionLockProcessor(long timestamp, long leaseDuration) {
+        this.timestamp = timestamp;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object process(InvocableMap.Entry entry) {
+        final RegionLock regionLock = (entry.isPresent() && entry.getValue() instanceof RegionLock) ?
+                (RegionLock) entry.getValue() :
+                RegionLock.UNLOCKED;
+        final RegionLock newRegionLock = (this.leaseDuration > 0L) ?
+                regionLock.lock(this.timestamp, this.leaseDuration) :
+                regionLock.unlock(this.timestamp);
+        entry.setValue(newRegionLock, false);
+        return newRegionLock;
+    }
+}
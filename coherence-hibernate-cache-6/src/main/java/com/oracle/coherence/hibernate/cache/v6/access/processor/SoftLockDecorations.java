@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.SoftLockState;
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap;
+
+/**
+ * SoftLockDecorations provides the entry processors of this package with access to the {@link SoftLockState} of
+ * the cache value in an entry.
+ *
+ * In partitioned caches, the SoftLockState is stored as an application decoration of the serialized cache value,
+ * so that soft locks can be acquired and released by rewriting the decoration only, without deserializing and
+ * reserializing the cache value, which is serialized without it. In other caches, the SoftLockState is held by the
+ * cache value itself, and serialized along with it.
+ *
+ * Placeholder cache values, which hold a SoftLockState but no "actual" value, are stored with the expiry of their
+ * SoftLockState, so that they do not accumulate in the cache once their soft locks have been released or expired.
+ * Other cache values retain their expiry while their SoftLockState is modified.
+ *
+ * @since 3.0.4
+ */
+final class SoftLockDecorations {
+
+    /**
+     * The decoration identifier under which the SoftLockState is stored.
+     */
+    static final int DECORATION_ID = ExternalizableHelper.DECO_APP_1;
+
+    private SoftLockDecorations() {
+    }
+
+    /**
+     * Returns the SoftLockState of the cache value in the argument entry, without deserializing the cache value
+     * if possible.
+     * @param entry a present entry
+     * @return the SoftLockState of the cache value in the argument entry
+     */
+    static SoftLockState getSoftLockState(InvocableMap.Entry entry) {
+        if (entry instanceof BinaryEntry) {
+            final BinaryEntry binaryEntry = (BinaryEntry) entry;
+            final Binary decoration = ExternalizableHelper.getDecoration(binaryEntry.getBinaryValue(), DECORATION_ID);
+            return (decoration != null) ?
+                    (SoftLockState) ExternalizableHelper.fromBinary(decoration, binaryEntry.getSerializer()) :
+                    new SoftLockState();
+        }
+        return ((CoherenceRegionValue) entry.getValue()).getSoftLockState();
+    }
+
+    /**
+     * Stores the argument SoftLockState for the cache value in the argument entry, without deserializing and
+     * reserializing the cache value if possible.
+     * @param entry a present entry
+     * @param softLockState the SoftLockState to store
+     */
+    static void setSoftLockState(InvocableMap.Entry entry, SoftLockState softLockState) {
+        if (entry instanceof BinaryEntry) {
+            final BinaryEntry binaryEntry = (BinaryEntry) entry;
+            //updating the value resets its expiry, which is not meant to be prolonged by soft locking it
+            final long expiry = binaryEntry.getExpiry();
+            binaryEntry.updateBinaryValue(decorate(binaryEntry, binaryEntry.getBinaryValue(), softLockState));
+            if (!softLockState.isPlaceholder() && expiry > 0L) {
+                binaryEntry.expire(expiry);
+            }
+            expirePlaceholder(binaryEntry, softLockState);
+        }
+        else {
+            final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
+            cacheValue.setSoftLockState(softLockState);
+            entry.setValue(cacheValue);
+        }
+    }
+
+    /**
+     * Returns the cache value in the argument entry, along with its SoftLockState.
+     * @param entry a present entry
+     * @return the cache value in the argument entry
+     */
+    static CoherenceRegionValue getValue(InvocableMap.Entry entry) {
+        final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
+        if (entry instanceof BinaryEntry) {
+            cacheValue.setSoftLockState(getSoftLockState(entry));
+        }
+        return cacheValue;
+    }
+
+    /**
+     * Sets the argument cache value in the argument entry, along with its SoftLockState.
+     * @param entry an entry
+     * @param cacheValue the cache value to set
+     */
+    static void setValue(InvocableMap.Entry entry, CoherenceRegionValue cacheValue) {
+        final SoftLockState softLockState = cacheValue.getSoftLockState();
+        softLockState.setPlaceholder(cacheValue.getValue() == null);
+        if (entry instanceof BinaryEntry) {
+            final BinaryEntry binaryEntry = (BinaryEntry) entry;
+            //the SoftLockState is stored as a decoration rather than along with the cache value
+            cacheValue.setSoftLockState(null);
+            final Binary binaryValue = ExternalizableHelper.toBinary(cacheValue, binaryEntry.getSerializer());
+            cacheValue.setSoftLockState(softLockState);
+            binaryEntry.updateBinaryValue(decorate(binaryEntry, binaryValue, softLockState));
+            expirePlaceholder(binaryEntry, softLockState);
+        }
+        else {
+            entry.setValue(cacheValue);
+        }
+    }
+
+    /**
+     * Replaces the cache value in the argument entry by a placeholder cache value holding no "actual" value, along
+     * with the argument SoftLockState. In partitioned caches, the replaced cache value is neither deserialized nor
+     * reserialized, and the entry retains its expiry unless the SoftLockState sets a placeholder expiry.
+     * @param entry a present entry
+     * @param softLockState the SoftLockState to store
+     */
+    static void setPlaceholder(InvocableMap.Entry entry, SoftLockState softLockState) {
+        softLockState.setPlaceholder(true);
+        if (entry instanceof BinaryEntry) {
+            final BinaryEntry binaryEntry = (BinaryEntry) entry;
+            final long expiry = binaryEntry.getExpiry();
+            final Binary placeholder = ExternalizableHelper.toBinary(new CoherenceRegionValue(null, null, 0L),
+                    binaryEntry.getSerializer());
+            binaryEntry.updateBinaryValue(decorate(binaryEntry, placeholder, softLockState));
+            if (softLockState.getPlaceholderExpiry() > 0L) {
+                binaryEntry.expire(softLockState.getPlaceholderExpiry());
+            }
+            else if (expiry > 0L) {
+                binaryEntry.expire(expiry);
+            }
+        }
+        else {
+            final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
+            cacheValue.invalidate();
+            cacheValue.setSoftLockState(softLockState);
+            entry.setValue(cacheValue);
+        }
+    }
+
+    /**
+     * Sets the expiry of the argument entry if it holds a placeholder cache value. The expiry of other entries is
+     * left to the cache configuration.
+     * @param entry an entry just modified
+     * @param softLockState the SoftLockState of the cache value in the argument entry
+     */
+    private static void expirePlaceholder(BinaryEntry entry, SoftLockState softLockState) {
+        if (softLockState.isPlaceholder() && softLockState.getPlaceholderExpiry() > 0L) {
+            entry.expire(softLockState.getPlaceholderExpiry());
+        }
+    }
+
+    private static Binary decorate(BinaryEntry entry, Binary binaryValue, SoftLockState softLockState) {
+        return softLockState.isEmpty() ?
+                ExternalizableHelper.undecorate(binaryValue, DECORATION_ID) :
+                ExternalizableHelper.decorate(binaryValue, DECORATION_ID,
+                        ExternalizableHelper.toBinary(softLockState, entry.getSerializer()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -9,6 +9,7 @@ package com.oracle.coherence.hibernate.cache.v6.access.processor;
 import java.io.Serializable;
 
 import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.SoftLockState;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.processor.AbstractProcessor;
 
@@ -39,13 +40,30 @@ public class SoftLockItemProcessor extends AbstractProcessor implements Serializ
     private CoherenceRegionValue valueIfAbsent;
 
     /**
-     * Complete constructor.
+     * The number of milliseconds after which a placeholder cache value expires once modified, or 0 if it does not expire.
+     */
+    private long placeholderExpiry;
+
+    /**
+     * Constructs a SoftLockItemProcessor whose placeholder cache values do not expire.
      * @param valueIfAbsent the cache value to soft lock in case there is no cache value already present
      * @param softLock the SoftLock to be added to the cache value
      */
     public SoftLockItemProcessor(CoherenceRegionValue valueIfAbsent, CoherenceRegionValue.SoftLock softLock) {
+        this(valueIfAbsent, softLock, 0L);
+    }
+
+    /**
+     * Complete constructor.
+     * @param valueIfAbsent the cache value to soft lock in case there is no cache value already present
+     * @param softLock the SoftLock to be added to the cache value
+     * @param placeholderExpiry the number of milliseconds after which a placeholder cache value (e.g. the argument
+     * valueIfAbsent) expires once modified, or 0 if it does not expire
+     */
+    public SoftLockItemProcessor(CoherenceRegionValue valueIfAbsent, CoherenceRegionValue.SoftLock softLock, long placeholderExpiry) {
         this.valueIfAbsent = valueIfAbsent;
         this.softLock = softLock;
+        this.placeholderExpiry = placeholderExpiry;
     }
 
     /**
@@ -53,11 +71,18 @@ public class SoftLockItemProcessor extends AbstractProcessor implements Serializ
      */
     @Override
     public Object process(InvocableMap.Entry entry) {
-        final CoherenceRegionValue cacheValue = entry.isPresent() ?
-                (CoherenceRegionValue) entry.getValue() :
-                this.valueIfAbsent;
-        cacheValue.addSoftLock(this.softLock);
-        entry.setValue(cacheValue);
+        if (entry.isPresent()) {
+            //only the soft lock state is touched, not the present cache value itself
+            final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+            softLockState.addSoftLock(this.softLock);
+            softLockState.setPlaceholderExpiry(this.placeholderExpiry);
+            SoftLockDecorations.setSoftLockState(entry, softLockState);
+        }
+        else {
+            this.valueIfAbsent.addSoftLock(this.softLock);
+            this.valueIfAbsent.getSoftLockState().setPlaceholderExpiry(this.placeholderExpiry);
+            SoftLockDecorations.setValue(entry, this.valueIfAbsent);
+        }
         return null;
     }
 }
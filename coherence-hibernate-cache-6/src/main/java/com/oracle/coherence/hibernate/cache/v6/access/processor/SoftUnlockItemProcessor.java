@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -8,7 +8,7 @@ package com.oracle.coherence.hibernate.cache.v6.access.processor;
 
 import java.io.Serializable;
 
-import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.SoftLockState;
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.processor.AbstractProcessor;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -55,9 +55,9 @@ public class SoftUnlockItemProcessor extends AbstractProcessor implements Serial
     @Override
     public Object process(InvocableMap.Entry entry) {
         if (entry.isPresent()) {
-            final CoherenceRegionValue cacheValue = (CoherenceRegionValue) entry.getValue();
-            cacheValue.releaseSoftLock(this.softLock, this.timeOfRelease);
-            entry.setValue(cacheValue);
+            final SoftLockState softLockState = SoftLockDecorations.getSoftLockState(entry);
+            softLockState.releaseSoftLock(this.softLock, this.timeOfRelease);
+            SoftLockDecorations.setSoftLockState(entry, softLockState);
         }
         return null;
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A VersionComparatorRegistry holds the version comparators used by {@link ReadWritePutFromLoadProcessor}s on a
+ * storage member, so that they need not be serialized along with every processor. A comparator is registered under
+ * an id derived from its serialized form, which therefore is the same on every cluster member. Comparators that
+ * cannot be serialized keep being sent along with every processor. The registered comparators are cleared as region
+ * factories are released, see {@link #clear()}.
+ *
+ * @since 3.0.4
+ */
+public final class VersionComparatorRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VersionComparatorRegistry.class);
+
+    /**
+     * The id of comparators which cannot be registered, e.g. because they are null or not serializable.
+     */
+    public static final long UNREGISTERED_ID = 0L;
+
+    /**
+     * The comparators registered on this member, by id.
+     */
+    private static final Map<Long, Comparator> COMPARATORS = new ConcurrentHashMap<>();
+
+    private VersionComparatorRegistry() {
+    }
+
+    /**
+     * Returns the id under which the argument comparator is registered on storage members.
+     * @param comparator a version comparator, may be null
+     * @return the long id of the argument comparator, or {@link #UNREGISTERED_ID} if it cannot be registered
+     */
+    public static long getId(Comparator<?> comparator) {
+        if (comparator == null) {
+            return UNREGISTERED_ID;
+        }
+        try {
+            final Binary binary = ExternalizableHelper.toBinary(comparator);
+            final long id = UUID.nameUUIDFromBytes(binary.toByteArray()).getMostSignificantBits();
+            return (id != UNREGISTERED_ID) ? id : 1L;
+        }
+        catch (Exception ex) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Version comparator {} cannot be registered; it will be sent with every putFromLoad.", comparator, ex);
+            }
+            return UNREGISTERED_ID;
+        }
+    }
+
+    /**
+     * Registers the argument comparator under the argument id on this member.
+     * @param id the id of the comparator
+     * @param comparator the comparator to register
+     */
+    static void register(long id, Comparator comparator) {
+        COMPARATORS.putIfAbsent(id, comparator);
+    }
+
+    /**
+     * Returns the comparator registered under the argument id on this member.
+     * @param id the id of the comparator
+     * @return the registered Comparator, or null if none is registered under the argument id
+     */
+    static Comparator get(long id) {
+        return COMPARATORS.get(id);
+    }
+
+    /**
+     * Removes all comparators registered on this member, so that they do not keep the class loaders of their classes
+     * reachable once the application which sent them is undeployed. Comparators still in use are sent again by the
+     * next {@link ReadWritePutFromLoadProcessor} needing them.
+     */
+    public static void clear() {
+        COMPARATORS.clear();
+    }
+}
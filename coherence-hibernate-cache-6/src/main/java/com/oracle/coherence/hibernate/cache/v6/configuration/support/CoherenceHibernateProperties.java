@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates.
  *
  * Licensed under the Universal Permissive License v 1.0 as shown at
  * https://oss.oracle.com/licenses/upl.
@@ -65,6 +65,78 @@ public class CoherenceHibernateProperties {
      */
     public static final String START_CACHE_SERVER_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "start_cache_server";
 
+    /**
+     * The name of the property specifying whether to acquire the NamedCaches of all regions concurrently, in the
+     * background, as the regions are built, rather than each on the first use of its region.
+     */
+    public static final String PARALLEL_CACHE_ACQUISITION_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "parallel_cache_acquisition";
+
+    /**
+     * By default, the NamedCache of a region is acquired on the first use of the region.
+     */
+    public static final String PARALLEL_CACHE_ACQUISITION_DEFAULT_VALUE = "false";
+
+    /**
+     * The name of the property specifying whether the Coherence cache server, if started, joins the cluster in the
+     * background, so that Hibernate need not wait for it to bootstrap. Until the cluster is joined, regions miss.
+     */
+    public static final String ASYNC_CACHE_SERVER_START_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "async_cache_server_start";
+
+    /**
+     * By default, the Coherence cache server is started synchronously.
+     */
+    public static final String ASYNC_CACHE_SERVER_START_DEFAULT_VALUE = "false";
+
+    /**
+     * The name of the property specifying whether to implement each type of region (entity, collection, natural-id,
+     * query results and timestamps regions) by caches of a cache service of its own, rather than by caches of the
+     * cache service shared by all regions.
+     */
+    public static final String SERVICE_ISOLATION_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "service_isolation";
+
+    /**
+     * By default, all regions share a cache service.
+     */
+    public static final String SERVICE_ISOLATION_DEFAULT_VALUE = "false";
+
+    /**
+     * The name of the property specifying whether to register an MBean per region with the platform MBeanServer,
+     * exposing the performance parameters of the region for change at runtime.
+     */
+    public static final String REGION_MANAGEMENT_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "region_management";
+
+    /**
+     * By default, no MBeans are registered for regions.
+     */
+    public static final String REGION_MANAGEMENT_DEFAULT_VALUE = "false";
+
+    /**
+     * The name of the property specifying whether region factories share a Coherence session of the same session name
+     * and cache configuration, the last region factory releasing the session shutting Coherence down.
+     */
+    public static final String SHARED_SESSION_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "shared_session";
+
+    /**
+     * By default, each region factory creates a Coherence session of its own.
+     */
+    public static final String SHARED_SESSION_DEFAULT_VALUE = "false";
+
+    /**
+     * The name of the property specifying the local directory to which snapshots of the regions are written
+     * periodically, and from which empty regions are restored on startup. By default, no snapshots are taken.
+     */
+    public static final String SNAPSHOT_DIRECTORY_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "snapshot_directory";
+
+    /**
+     * The name of the property specifying the interval in milliseconds at which snapshots of the regions are taken.
+     */
+    public static final String SNAPSHOT_INTERVAL_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "snapshot_interval";
+
+    /**
+     * By default, snapshots of the regions are taken every 5 minutes.
+     */
+    public static final String SNAPSHOT_INTERVAL_DEFAULT_VALUE = "300000";
+
     /**
      * By default, empty, indicating that no Coherence property prefix is applied.
      */
@@ -76,6 +148,20 @@ public class CoherenceHibernateProperties {
 
     private final boolean startCacheServer;
 
+    private final boolean parallelCacheAcquisition;
+
+    private final boolean asyncCacheServerStart;
+
+    private final boolean serviceIsolation;
+
+    private final boolean regionManagement;
+
+    private final boolean sharedSession;
+
+    private final String snapshotDirectory;
+
+    private final long snapshotInterval;
+
     private final Map<String, Object> coherenceProperties;
 
     public CoherenceHibernateProperties(Map hibernateProperties) {
@@ -132,6 +218,86 @@ public class CoherenceHibernateProperties {
 
         this.startCacheServer = Boolean.valueOf(startCacheServer);
 
+        String parallelCacheAcquisition = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.PARALLEL_CACHE_ACQUISITION_PROPERTY_NAME) : null;
+
+        if (parallelCacheAcquisition == null) {
+            parallelCacheAcquisition = System.getProperty(
+                    CoherenceHibernateProperties.PARALLEL_CACHE_ACQUISITION_PROPERTY_NAME,
+                    CoherenceHibernateProperties.PARALLEL_CACHE_ACQUISITION_DEFAULT_VALUE);
+        }
+
+        this.parallelCacheAcquisition = Boolean.valueOf(parallelCacheAcquisition);
+
+        String asyncCacheServerStart = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.ASYNC_CACHE_SERVER_START_PROPERTY_NAME) : null;
+
+        if (asyncCacheServerStart == null) {
+            asyncCacheServerStart = System.getProperty(
+                    CoherenceHibernateProperties.ASYNC_CACHE_SERVER_START_PROPERTY_NAME,
+                    CoherenceHibernateProperties.ASYNC_CACHE_SERVER_START_DEFAULT_VALUE);
+        }
+
+        this.asyncCacheServerStart = Boolean.valueOf(asyncCacheServerStart);
+
+        String serviceIsolation = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.SERVICE_ISOLATION_PROPERTY_NAME) : null;
+
+        if (serviceIsolation == null) {
+            serviceIsolation = System.getProperty(
+                    CoherenceHibernateProperties.SERVICE_ISOLATION_PROPERTY_NAME,
+                    CoherenceHibernateProperties.SERVICE_ISOLATION_DEFAULT_VALUE);
+        }
+
+        this.serviceIsolation = Boolean.valueOf(serviceIsolation);
+
+        String regionManagement = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.REGION_MANAGEMENT_PROPERTY_NAME) : null;
+
+        if (regionManagement == null) {
+            regionManagement = System.getProperty(
+                    CoherenceHibernateProperties.REGION_MANAGEMENT_PROPERTY_NAME,
+                    CoherenceHibernateProperties.REGION_MANAGEMENT_DEFAULT_VALUE);
+        }
+
+        this.regionManagement = Boolean.valueOf(regionManagement);
+
+        String sharedSession = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.SHARED_SESSION_PROPERTY_NAME) : null;
+
+        if (sharedSession == null) {
+            sharedSession = System.getProperty(
+                    CoherenceHibernateProperties.SHARED_SESSION_PROPERTY_NAME,
+                    CoherenceHibernateProperties.SHARED_SESSION_DEFAULT_VALUE);
+        }
+
+        this.sharedSession = Boolean.valueOf(sharedSession);
+
+        String snapshotDirectory = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.SNAPSHOT_DIRECTORY_PROPERTY_NAME) : null;
+
+        if (snapshotDirectory == null) {
+            snapshotDirectory = System.getProperty(
+                    CoherenceHibernateProperties.SNAPSHOT_DIRECTORY_PROPERTY_NAME,
+                    null);
+        }
+
+        this.snapshotDirectory = snapshotDirectory;
+
+        String snapshotInterval = (hibernateProperties != null) ?
+                (String) hibernateProperties.get(CoherenceHibernateProperties.SNAPSHOT_INTERVAL_PROPERTY_NAME) : null;
+
+        if (snapshotInterval == null) {
+            snapshotInterval = System.getProperty(
+                    CoherenceHibernateProperties.SNAPSHOT_INTERVAL_PROPERTY_NAME,
+                    CoherenceHibernateProperties.SNAPSHOT_INTERVAL_DEFAULT_VALUE);
+        }
+
+        this.snapshotInterval = Long.parseLong(snapshotInterval.trim());
+        if (this.snapshotInterval <= 0L) {
+            throw new IllegalStateException(String.format("The snapshot interval must be positive, but is %d.", this.snapshotInterval));
+        }
+
     }
 
     public String getCacheConfigFilePath() {
@@ -154,6 +320,34 @@ public class CoherenceHibernateProperties {
         return this.startCacheServer;
     }
 
+    public boolean isParallelCacheAcquisition() {
+        return this.parallelCacheAcquisition;
+    }
+
+    public boolean isAsyncCacheServerStart() {
+        return this.asyncCacheServerStart;
+    }
+
+    public boolean isServiceIsolation() {
+        return this.serviceIsolation;
+    }
+
+    public boolean isRegionManagement() {
+        return this.regionManagement;
+    }
+
+    public boolean isSharedSession() {
+        return this.sharedSession;
+    }
+
+    public String getSnapshotDirectory() {
+        return this.snapshotDirectory;
+    }
+
+    public long getSnapshotInterval() {
+        return this.snapshotInterval;
+    }
+
     private Map<String, Object> getCoherenceSystemProperties(Map hibernateProperties) {
         final Map<String, Object> resolvedCoherenceProperties = new ConcurrentHashMap<>(0);
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.configuration.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegion;
+import com.tangosol.util.Base;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The tuning of the NamedCache of a single region, as specified by the region-specific Hibernate properties named by
+ * {@link CoherenceRegion#getRegionPropertyName(String, String)}. Unless mapped explicitly by the cache configuration,
+ * the NamedCache is mapped to a caching scheme of the default cache configuration with the parameters given by these
+ * settings.
+ *
+ * @since 3.0.4
+ */
+public final class RegionCacheSettings {
+
+    /**
+     * The name of the setting specifying the type of caching scheme of the region, either {@link #NEAR_SCHEME} or
+     * {@link #DISTRIBUTED_SCHEME}.
+     */
+    public static final String SCHEME_SETTING_NAME = "scheme";
+
+    /**
+     * The name of the setting specifying the maximum size of the region per storage member, in megabytes.
+     */
+    public static final String HIGH_UNITS_SETTING_NAME = "high_units";
+
+    /**
+     * The name of the setting specifying the delay after which entries of the region expire, e.g. {@code 10m}. Unlike
+     * {@link CoherenceRegion#TIME_TO_LIVE_SETTING_NAME}, the expiry delay applies to all entries of the NamedCache,
+     * including those put by other members, and is renewed whenever an entry is updated.
+     */
+    public static final String EXPIRY_DELAY_SETTING_NAME = "expiry_delay";
+
+    /**
+     * The name of the setting specifying the maximum number of entries of the region in the front tier of a near
+     * cache.
+     */
+    public static final String NEAR_HIGH_UNITS_SETTING_NAME = "near_high_units";
+
+    /**
+     * The value of the {@link #SCHEME_SETTING_NAME scheme setting} selecting a near scheme.
+     */
+    public static final String NEAR_SCHEME = "near";
+
+    /**
+     * The value of the {@link #SCHEME_SETTING_NAME scheme setting} selecting a distributed scheme.
+     */
+    public static final String DISTRIBUTED_SCHEME = "distributed";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegionCacheSettings.class);
+
+    private final Boolean nearCache;
+
+    private final Integer highUnits;
+
+    private final Long expiryDelay;
+
+    private final Integer nearHighUnits;
+
+    private RegionCacheSettings(Boolean nearCache, Integer highUnits, Long expiryDelay, Integer nearHighUnits) {
+        this.nearCache = nearCache;
+        this.highUnits = highUnits;
+        this.expiryDelay = expiryDelay;
+        this.nearHighUnits = nearHighUnits;
+    }
+
+    /**
+     * Returns the RegionCacheSettings of the argument region specified by the argument properties. Invalid settings
+     * are logged and ignored.
+     * @param regionName the unqualified name of the region
+     * @param properties the Hibernate properties
+     * @return the RegionCacheSettings of the region, or null if no setting is specified for the region
+     */
+    public static RegionCacheSettings getRegionCacheSettings(String regionName, Map<String, Object> properties) {
+        final String scheme = getSetting(properties, regionName, SCHEME_SETTING_NAME);
+        Boolean nearCache = null;
+        if (scheme != null) {
+            if (NEAR_SCHEME.equalsIgnoreCase(scheme) || DISTRIBUTED_SCHEME.equalsIgnoreCase(scheme)) {
+                nearCache = NEAR_SCHEME.equalsIgnoreCase(scheme);
+            }
+            else if (LOGGER.isErrorEnabled()) {
+                LOGGER.error("Error parsing property {}; provided value was {}, expected {} or {}.",
+                        CoherenceRegion.getRegionPropertyName(regionName, SCHEME_SETTING_NAME), scheme, NEAR_SCHEME, DISTRIBUTED_SCHEME);
+            }
+        }
+        final Integer highUnits = getUnitsSetting(properties, regionName, HIGH_UNITS_SETTING_NAME);
+        final Integer nearHighUnits = getUnitsSetting(properties, regionName, NEAR_HIGH_UNITS_SETTING_NAME);
+        final String expiryDelaySetting = getSetting(properties, regionName, EXPIRY_DELAY_SETTING_NAME);
+        Long expiryDelay = null;
+        if (expiryDelaySetting != null) {
+            try {
+                expiryDelay = Base.parseTime(expiryDelaySetting);
+            }
+            catch (Exception ex) {
+                if (LOGGER.isErrorEnabled()) {
+                    LOGGER.error("Error parsing duration property {}; provided value was {}.",
+                            CoherenceRegion.getRegionPropertyName(regionName, EXPIRY_DELAY_SETTING_NAME), expiryDelaySetting);
+                }
+            }
+        }
+        if (nearCache == null && highUnits == null && expiryDelay == null && nearHighUnits == null) {
+            return null;
+        }
+        return new RegionCacheSettings(nearCache, highUnits, expiryDelay, nearHighUnits);
+    }
+
+    private static String getSetting(Map<String, Object> properties, String regionName, String settingName) {
+        final Object value = properties.get(CoherenceRegion.getRegionPropertyName(regionName, settingName));
+        return (value != null && StringUtils.hasText(value.toString())) ? value.toString().trim() : null;
+    }
+
+    private static Integer getUnitsSetting(Map<String, Object> properties, String regionName, String settingName) {
+        final String value = getSetting(properties, regionName, settingName);
+        if (value == null) {
+            return null;
+        }
+        try {
+            final int units = Integer.parseInt(value);
+            if (units >= 0) {
+                return units;
+            }
+        }
+        catch (NumberFormatException ex) {
+            //logged below
+        }
+        if (LOGGER.isErrorEnabled()) {
+            LOGGER.error("Error parsing property {}; provided value was {}, expected a non-negative integer.",
+                    CoherenceRegion.getRegionPropertyName(regionName, settingName), value);
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the region is to be mapped to a near scheme, or null if the type of scheme is not specified.
+     * @return whether the region is to be near cached
+     */
+    public Boolean getNearCache() {
+        return this.nearCache;
+    }
+
+    /**
+     * Returns the maximum size of the region per storage member in megabytes, or null if not specified.
+     * @return the maximum size of the region
+     */
+    public Integer getHighUnits() {
+        return this.highUnits;
+    }
+
+    /**
+     * Returns the delay in milliseconds after which entries of the region expire, or null if not specified.
+     * @return the expiry delay of the region
+     */
+    public Long getExpiryDelay() {
+        return this.expiryDelay;
+    }
+
+    /**
+     * Returns the maximum number of entries of the region in the front tier of a near cache, or null if not
+     * specified.
+     * @return the maximum number of entries in the front tier
+     */
+    public Integer getNearHighUnits() {
+        return this.nearHighUnits;
+    }
+
+    /**
+     * Returns the parameters of the caching schemes of the default cache configuration specified by these settings,
+     * keyed by parameter name. The values are Strings, as if given by the init-params of a cache mapping, so that
+     * Coherence can convert them to the types of the scheme elements they configure.
+     * @return the scheme parameters specified by these settings
+     */
+    public Map<String, Object> getSchemeParameters() {
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        if (this.highUnits != null) {
+            parameters.put("back-tier-high-units", String.valueOf(this.highUnits));
+        }
+        if (this.expiryDelay != null) {
+            parameters.put("back-tier-expiry-delay", this.expiryDelay + "ms");
+        }
+        if (this.nearHighUnits != null) {
+            parameters.put("front-tier-high-units", String.valueOf(this.nearHighUnits));
+        }
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "RegionCacheSettings(nearCache=" + this.nearCache + ", highUnits=" + this.highUnits
+                + ", expiryDelay=" + this.expiryDelay + ", nearHighUnits=" + this.nearHighUnits + ")";
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+/**
+ * The management interface of the performance parameters of a {@link CoherenceRegion}, which can be changed at
+ * runtime. Changes apply to subsequent operations on the region in this member only, and are lost when the region
+ * factory is stopped.
+ *
+ * @since 3.0.4
+ */
+public interface CoherenceRegionSettingsMBean {
+
+    /**
+     * Returns the name of the NamedCache implementing the region.
+     * @return the name of the NamedCache
+     */
+    String getCacheName();
+
+    /**
+     * Returns the lock lease duration of the region.
+     * @return the lock lease duration in milliseconds
+     */
+    int getLockLeaseDuration();
+
+    /**
+     * Sets the lock lease duration of the region, which applies to soft locks acquired subsequently.
+     * @param lockLeaseDuration the lock lease duration in milliseconds, which must be positive
+     */
+    void setLockLeaseDuration(int lockLeaseDuration);
+
+    /**
+     * Returns the lease duration of new soft locks, which is less than the lock lease duration if adapted to the
+     * observed durations for which soft locks are held.
+     * @return the lease duration of new soft locks in milliseconds
+     */
+    long getSoftLockLease();
+
+    /**
+     * Returns for how long readers of the region wait for a cache value being loaded by another reader.
+     * @return the pending-load timeout in milliseconds, or 0 if readers do not wait
+     */
+    long getPendingLoadTimeout();
+
+    /**
+     * Sets for how long readers of the region wait for a cache value being loaded by another reader, which is capped
+     * at the lock lease duration.
+     * @param pendingLoadTimeout the pending-load timeout in milliseconds, or 0 if readers are not to wait
+     */
+    void setPendingLoadTimeout(long pendingLoadTimeout);
+
+    /**
+     * Returns the time after which the cache values put into the region expire.
+     * @return the time-to-live in milliseconds, or 0 if the expiry of cache values is left to the cache configuration
+     */
+    long getTimeToLive();
+
+    /**
+     * Sets the time after which the cache values subsequently put into the region expire.
+     * @param timeToLive the time-to-live in milliseconds, or 0 to leave the expiry of cache values to the cache
+     *                   configuration
+     */
+    void setTimeToLive(long timeToLive);
+
+    /**
+     * Returns the maximum number of units of the front map of the region's near cache in this member.
+     * @return the high units of the front map, or -1 if the region has no near cache or it was not acquired yet
+     */
+    int getNearCacheHighUnits();
+
+    /**
+     * Sets the maximum number of units of the front map of the region's near cache in this member, evicting entries
+     * if the front map exceeds it. Has no effect if the region has no near cache or it was not acquired yet.
+     * @param highUnits the high units of the front map, or 0 for no limit
+     */
+    void setNearCacheHighUnits(int highUnits);
+
+    /**
+     * Returns the delay after which the entries of the front map of the region's near cache in this member expire.
+     * @return the expiry delay of the front map in milliseconds, or -1 if the region has no near cache or it was not
+     *         acquired yet
+     */
+    int getNearCacheExpiryDelay();
+
+    /**
+     * Sets the delay after which the entries subsequently put into the front map of the region's near cache in this
+     * member expire. Has no effect if the region has no near cache or it was not acquired yet.
+     * @param expiryDelay the expiry delay of the front map in milliseconds, or 0 for no expiry
+     */
+    void setNearCacheExpiryDelay(int expiryDelay);
+}
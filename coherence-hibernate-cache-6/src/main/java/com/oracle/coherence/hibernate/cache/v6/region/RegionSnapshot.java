@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.tangosol.util.Binary;
+
+/**
+ * A RegionSnapshot is a copy of the entries of a region taken at a point in time, held in a local memory-mapped file,
+ * so that the region can be warmed up from it after the cluster was restarted. Keys and values are held serialized,
+ * by the serializer of the cache service of the region.
+ *
+ * A snapshot file holds a header of a magic number, a format version, the snapshot time, the number of entries and
+ * whether the snapshot is final, followed by pages of entries. Each page holds its length in bytes and its number of entries, followed by the length
+ * and bytes of the key and of the value of each entry. Snapshot files are written and read one page at a time, so that
+ * neither the entries of a region nor its snapshot file need to fit into memory at once. Each page is accessed through
+ * its own {@link MappedByteBuffer} over the part of the file holding it, rather than by mapping the whole file, so that
+ * snapshot files may exceed the 2GB limit of a single mapping; keys and values are copied out of a mapping as Binaries.
+ *
+ * A final snapshot is taken as the last member running the cache service of a region shuts down, so that no entry of
+ * the region can have been evicted after it was taken. Only final snapshots are restored when the region metadata
+ * cache holds no record of the latest invalidation of their region, e.g. after the whole cluster was restarted.
+ *
+ * @since 3.0.4
+ */
+public final class RegionSnapshot {
+
+    /**
+     * The magic number starting every snapshot file.
+     */
+    private static final int MAGIC = 0x48324C53;
+
+    /**
+     * The version of the format of snapshot files.
+     */
+    private static final int FORMAT_VERSION = 3;
+
+    /**
+     * The size of the header of a snapshot file in bytes.
+     */
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * The size of the header of a page of a snapshot file in bytes.
+     */
+    private static final int PAGE_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    /**
+     * The snapshot file.
+     */
+    private final Path file;
+
+    /**
+     * The time at which this RegionSnapshot was taken, in the units of {@link ClusterTimestamper}.
+     */
+    private final long snapshotTime;
+
+    /**
+     * The number of entries of this RegionSnapshot.
+     */
+    private final long size;
+
+    /**
+     * A flag indicating whether this RegionSnapshot is final.
+     */
+    private final boolean finalSnapshot;
+
+    /**
+     * Complete constructor.
+     * @param file the snapshot file
+     * @param snapshotTime the time at which the RegionSnapshot was taken
+     * @param size the number of entries of the RegionSnapshot
+     * @param finalSnapshot whether the RegionSnapshot is final
+     */
+    private RegionSnapshot(Path file, long snapshotTime, long size, boolean finalSnapshot) {
+        this.file = file;
+        this.snapshotTime = snapshotTime;
+        this.size = size;
+        this.finalSnapshot = finalSnapshot;
+    }
+
+    /**
+     * Returns the time at which this RegionSnapshot was taken.
+     * @return the snapshot time, in the units of {@link ClusterTimestamper}
+     */
+    public long getSnapshotTime() {
+        return this.snapshotTime;
+    }
+
+    /**
+     * Returns the number of entries of this RegionSnapshot.
+     * @return the number of entries
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether this RegionSnapshot is final, i.e. was taken as the last member running the cache service of
+     * its region shut down.
+     * @return true if this RegionSnapshot is final
+     */
+    public boolean isFinal() {
+        return this.finalSnapshot;
+    }
+
+    /**
+     * Writes a RegionSnapshot of the serialized entries supplied page by page by the argument Iterator to the argument
+     * file, replacing it atomically, so that readers never see a partially written snapshot. Each page is written as
+     * soon as it is supplied.
+     * @param file the snapshot file
+     * @param snapshotTime the time at which the RegionSnapshot is taken
+     * @param finalSnapshot whether the RegionSnapshot is final
+     * @param pages the pages of serialized entries
+     * @return the RegionSnapshot written
+     * @throws IOException if the snapshot file cannot be written
+     */
+    public static RegionSnapshot write(Path file, long snapshotTime, boolean finalSnapshot, Iterator<Map<Binary, Binary>> pages)
+            throws IOException {
+        final Path temporaryFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            long size = 0L;
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long position = HEADER_SIZE;
+                while (pages.hasNext()) {
+                    final Map<Binary, Binary> page = pages.next();
+                    if (!page.isEmpty()) {
+                        position += writePage(channel, position, page);
+                        size += page.size();
+                    }
+                }
+                final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0L, HEADER_SIZE);
+                header.putInt(MAGIC);
+                header.putInt(FORMAT_VERSION);
+                header.putLong(snapshotTime);
+                header.putLong(size);
+                header.putInt(finalSnapshot ? 1 : 0);
+                channel.force(true);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new RegionSnapshot(file, snapshotTime, size, finalSnapshot);
+        }
+        finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Reads the header of the RegionSnapshot in the argument file. Its entries are read by {@link #forEachPage}.
+     * @param file the snapshot file
+     * @return the RegionSnapshot, or null if the file does not exist
+     * @throws IOException if the file cannot be read or is not a snapshot file
+     */
+    public static RegionSnapshot readFrom(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(String.format("'%s' is not a region snapshot file.", file));
+            }
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException(String.format("'%s' is not a region snapshot file.", file));
+            }
+            return new RegionSnapshot(file, header.getLong(), header.getLong(), header.getInt() != 0);
+        }
+    }
+
+    /**
+     * Reads the serialized entries of this RegionSnapshot page by page, passing each page to the argument Consumer
+     * before reading the next one.
+     * @param pageConsumer the Consumer of the pages of serialized entries
+     * @throws IOException if the snapshot file cannot be read or is corrupt
+     */
+    public void forEachPage(Consumer<Map<Binary, Binary>> pageConsumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            long position = HEADER_SIZE;
+            long count = 0L;
+            while (position < fileSize) {
+                final MappedByteBuffer pageHeader = channel.map(FileChannel.MapMode.READ_ONLY, position, PAGE_HEADER_SIZE);
+                final int pageLength = pageHeader.getInt();
+                final int pageSize = pageHeader.getInt();
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position + PAGE_HEADER_SIZE, pageLength);
+                final Map<Binary, Binary> page = new LinkedHashMap<>();
+                for (int i = 0; i < pageSize; i++) {
+                    page.put(getBinary(buffer), getBinary(buffer));
+                }
+                pageConsumer.accept(page);
+                position += PAGE_HEADER_SIZE + pageLength;
+                count += pageSize;
+            }
+            if (count != this.size) {
+                throw new IOException(String.format("The region snapshot file '%s' is truncated.", this.file));
+            }
+        }
+        catch (RuntimeException ex) {
+            throw new IOException(String.format("The region snapshot file '%s' is corrupt.", this.file), ex);
+        }
+    }
+
+    /**
+     * Writes the argument page of serialized entries to the argument channel at the argument position.
+     * @param channel the channel of the snapshot file
+     * @param position the position at which to write the page
+     * @param page the page of serialized entries
+     * @return the number of bytes written
+     * @throws IOException if the page cannot be written, e.g. because it exceeds the maximum size of a page
+     */
+    private static long writePage(FileChannel channel, long position, Map<Binary, Binary> page) throws IOException {
+        long pageLength = 0L;
+        for (Map.Entry<Binary, Binary> entry : page.entrySet()) {
+            pageLength += Integer.BYTES + entry.getKey().length() + Integer.BYTES + entry.getValue().length();
+        }
+        if (pageLength > Integer.MAX_VALUE - PAGE_HEADER_SIZE) {
+            throw new IOException(String.format("A snapshot page of %d bytes exceeds the maximum size of a page.", pageLength));
+        }
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, PAGE_HEADER_SIZE + pageLength);
+        buffer.putInt((int) pageLength);
+        buffer.putInt(page.size());
+        for (Map.Entry<Binary, Binary> entry : page.entrySet()) {
+            putBinary(buffer, entry.getKey());
+            putBinary(buffer, entry.getValue());
+        }
+        return PAGE_HEADER_SIZE + pageLength;
+    }
+
+    /**
+     * Puts the length and bytes of the argument Binary into the argument buffer.
+     * @param buffer the buffer
+     * @param binary the Binary
+     */
+    private static void putBinary(MappedByteBuffer buffer, Binary binary) {
+        buffer.putInt(binary.length());
+        buffer.put(binary.toByteArray());
+    }
+
+    /**
+     * Gets a Binary from the argument buffer, preceded by its length.
+     * @param buffer the buffer
+     * @return the Binary
+     */
+    private static Binary getBinary(MappedByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new Binary(bytes);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.util.Arrays;
+
+/**
+ * A SoftLockLeaseEstimator adapts the lease duration of new soft locks to the observed durations for which soft locks
+ * are held, i.e. to the times between their acquisition and release. The lease is the 99th percentile of the most
+ * recently observed durations plus a margin, which is also the minimum lease. Until enough durations have been
+ * observed, the lease is the maximum lease.
+ *
+ * @since 3.0.4
+ */
+final class SoftLockLeaseEstimator {
+
+    /**
+     * The number of most recently observed durations the lease is estimated from.
+     */
+    static final int SAMPLE_CAPACITY = 1024;
+
+    /**
+     * The number of durations to observe before the lease is first estimated.
+     */
+    static final int MIN_SAMPLE_COUNT = 128;
+
+    /**
+     * The number of durations to observe before the lease is estimated again.
+     */
+    static final int ESTIMATION_INTERVAL = 64;
+
+    /**
+     * The percentile of the observed durations the lease is estimated from.
+     */
+    private static final double PERCENTILE = 0.99d;
+
+    /**
+     * The minimum lease in milliseconds, which is also the margin added to the percentile.
+     */
+    private final long minLease;
+
+    /**
+     * The maximum lease in milliseconds.
+     */
+    private final long maxLease;
+
+    /**
+     * A ring buffer of the most recently observed durations.
+     */
+    private final long[] samples = new long[SAMPLE_CAPACITY];
+
+    /**
+     * The number of durations observed, up to the capacity of the ring buffer.
+     */
+    private int sampleCount;
+
+    /**
+     * The index in the ring buffer of the next duration to observe.
+     */
+    private int nextSampleIndex;
+
+    /**
+     * The number of durations observed since the lease was last estimated.
+     */
+    private int samplesSinceEstimation;
+
+    /**
+     * The current lease in milliseconds.
+     */
+    private volatile long lease;
+
+    /**
+     * Complete constructor.
+     * @param minLease the minimum lease in milliseconds, which is also the margin added to the percentile
+     * @param maxLease the maximum lease in milliseconds
+     */
+    SoftLockLeaseEstimator(long minLease, long maxLease) {
+        this.minLease = Math.min(minLease, maxLease);
+        this.maxLease = maxLease;
+        this.lease = maxLease;
+    }
+
+    /**
+     * Returns the lease duration for new soft locks.
+     * @return the lease duration in milliseconds
+     */
+    long getLease() {
+        return this.lease;
+    }
+
+    /**
+     * Records the duration for which a soft lock was held.
+     * @param duration the duration in milliseconds
+     */
+    synchronized void record(long duration) {
+        this.samples[this.nextSampleIndex] = Math.max(duration, 0L);
+        this.nextSampleIndex = (this.nextSampleIndex + 1) % SAMPLE_CAPACITY;
+        this.sampleCount = Math.min(this.sampleCount + 1, SAMPLE_CAPACITY);
+        this.samplesSinceEstimation++;
+        if (this.sampleCount >= MIN_SAMPLE_COUNT && this.samplesSinceEstimation >= ESTIMATION_INTERVAL) {
+            this.samplesSinceEstimation = 0;
+            this.lease = estimate();
+        }
+    }
+
+    private long estimate() {
+        final long[] sortedSamples = Arrays.copyOf(this.samples, this.sampleCount);
+        Arrays.sort(sortedSamples);
+        final int percentileIndex = (int) Math.ceil(this.sampleCount * PERCENTILE) - 1;
+        final long percentile = sortedSamples[Math.max(percentileIndex, 0)];
+        return Math.max(this.minLease, Math.min(this.maxLease, percentile + this.minLease));
+    }
+}
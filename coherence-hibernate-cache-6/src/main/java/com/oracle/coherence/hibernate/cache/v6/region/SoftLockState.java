@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.util.ExternalizableHelper;
+
+/**
+ * A SoftLockState is an object keeping track of the soft locks currently in effect on a value in Hibernate's
+ * second-level cache, and of the times at which they will have expired and were last released.
+ *
+ * The SoftLockState of a cache value is kept separate from the "actual" cache value, so that acquiring and
+ * releasing soft locks does not require the actual cache value to be deserialized and reserialized.
+ *
+ * As almost every cache value is soft-locked by at most one transaction at a time, a single soft lock is held
+ * inline, and a List is only allocated for additional concurrent soft locks. The serialized form is compact as well.
+ *
+ * @since 3.0.4
+ */
+public class SoftLockState implements Serializable, ExternalizableLite {
+
+    /**
+     * An identifier of this class's version for serialization purposes.
+     */
+    private static final long serialVersionUID = -2511795339151434770L;
+
+    /**
+     * The earliest-acquired SoftLock currently in effect, or null if none is.
+     */
+    private CoherenceRegionValue.SoftLock softLock;
+
+    /**
+     * A List of the other SoftLocks currently in effect, in order of acquisition, or null if there are none.
+     */
+    private List<CoherenceRegionValue.SoftLock> moreSoftLocks;
+
+    /**
+     * The time at which the last soft lock in effect was released.
+     */
+    private long timeOfSoftLockRelease = 0L;
+
+    /**
+     * A flag indicating whether the cache value holds no "actual" value, i.e. is a mere placeholder for this
+     * SoftLockState, created by soft-locking an absent cache entry or by invalidating a present one.
+     */
+    private boolean placeholder;
+
+    /**
+     * The number of milliseconds after which a placeholder cache value expires, or 0 if it does not expire.
+     */
+    private long placeholderExpiry = 0L;
+
+    /**
+     * The time at which the load of the cache value, announced by a pending-load marker, will be considered failed,
+     * or 0 if no load is pending.
+     */
+    private long pendingLoadExpirationTime = 0L;
+
+    /**
+     * Adds a SoftLock to this SoftLockState.
+     * @param softLock the SoftLock to add
+     */
+    public void addSoftLock(CoherenceRegionValue.SoftLock softLock) {
+        if (this.softLock == null) {
+            this.softLock = softLock;
+        }
+        else {
+            if (this.moreSoftLocks == null) {
+                this.moreSoftLocks = new ArrayList<>(2);
+            }
+            this.moreSoftLocks.add(softLock);
+        }
+    }
+
+    /**
+     * Attempts to release the argument SoftLock.
+     * Has no effect if the argument SoftLock is not in effect.
+     * @param softLock the SoftLock whose release to attempt
+     * @param timeOfRelease the time at which the SoftLock was released
+     */
+    public void releaseSoftLock(org.hibernate.cache.spi.access.SoftLock softLock, long timeOfRelease) {
+        if (softLock.equals(this.softLock)) {
+            this.softLock = null;
+        }
+        else if (this.moreSoftLocks != null) {
+            this.moreSoftLocks.remove(softLock);
+        }
+        compact();
+        if (!isSoftLocked()) {
+            this.timeOfSoftLockRelease = timeOfRelease;
+        }
+    }
+
+    /**
+     * Returns a boolean indicating whether any soft lock in effect expired before the argument time.
+     * @param someTime the time before which it is asked whether any soft lock expired
+     * @return a boolean indicating whether any soft lock in effect expired before the argument time
+     */
+    public boolean hasSoftLocksExpiredBefore(long someTime) {
+        if (this.softLock != null && this.softLock.getExpirationTime() < someTime) {
+            return true;
+        }
+        if (this.moreSoftLocks != null) {
+            for (CoherenceRegionValue.SoftLock otherSoftLock : this.moreSoftLocks) {
+                if (otherSoftLock.getExpirationTime() < someTime) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Releases all soft locks in effect that expired before the argument time, e.g. because their acquirer terminated
+     * before releasing them.
+     * @param someTime the time before which soft locks to release expired, which is also taken as their time of release
+     */
+    public void releaseSoftLocksExpiredBefore(long someTime) {
+        if (this.softLock != null && this.softLock.getExpirationTime() < someTime) {
+            this.softLock = null;
+        }
+        if (this.moreSoftLocks != null) {
+            this.moreSoftLocks.removeIf((otherSoftLock) -> otherSoftLock.getExpirationTime() < someTime);
+        }
+        compact();
+        if (!isSoftLocked()) {
+            this.timeOfSoftLockRelease = someTime;
+        }
+    }
+
+    /**
+     * Returns a boolean indicating whether any soft lock is currently in effect.
+     * @return a boolean indicating whether any soft lock is currently in effect
+     */
+    public boolean isSoftLocked() {
+        return this.softLock != null;
+    }
+
+    /**
+     * Returns a boolean indicating whether this SoftLockState carries no information, i.e. no soft lock was ever
+     * acquired or released, no load is pending, and the cache value is no placeholder, in which case it need not be
+     * stored.
+     * @return a boolean indicating whether this SoftLockState carries no information
+     */
+    public boolean isEmpty() {
+        return !isSoftLocked() && this.timeOfSoftLockRelease == 0L && this.pendingLoadExpirationTime == 0L
+                && !this.placeholder && this.placeholderExpiry == 0L;
+    }
+
+    /**
+     * Marks the cache value as being loaded from the database by some reader, until the argument time.
+     * @param pendingLoadExpirationTime the time at which the load will be considered failed
+     */
+    public void markPendingLoad(long pendingLoadExpirationTime) {
+        this.pendingLoadExpirationTime = pendingLoadExpirationTime;
+    }
+
+    /**
+     * Returns a boolean indicating whether the cache value is being loaded from the database by some reader at the
+     * argument time.
+     * @param someTime the time at which it is asked whether a load is pending
+     * @return a boolean indicating whether a load of the cache value is pending at the argument time
+     */
+    public boolean isPendingLoadAt(long someTime) {
+        return this.pendingLoadExpirationTime > someTime;
+    }
+
+    /**
+     * Returns a boolean indicating whether the cache value is a mere placeholder for this SoftLockState.
+     * @return a boolean indicating whether the cache value is a mere placeholder for this SoftLockState
+     */
+    public boolean isPlaceholder() {
+        return this.placeholder;
+    }
+
+    /**
+     * Sets the flag indicating whether the cache value is a mere placeholder for this SoftLockState.
+     * @param placeholder a boolean indicating whether the cache value is a mere placeholder for this SoftLockState
+     */
+    public void setPlaceholder(boolean placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * Returns the number of milliseconds after which a placeholder cache value expires, counting from its last
+     * modification, i.e. its creation or the acquisition or release of a soft lock on it.
+     * @return the number of milliseconds after which a placeholder cache value expires, or 0 if it does not expire
+     */
+    public long getPlaceholderExpiry() {
+        return this.placeholderExpiry;
+    }
+
+    /**
+     * Sets the number of milliseconds after which a placeholder cache value expires.
+     * @param placeholderExpiry the number of milliseconds after which a placeholder cache value expires, or 0 if it does not expire
+     */
+    public void setPlaceholderExpiry(long placeholderExpiry) {
+        this.placeholderExpiry = placeholderExpiry;
+    }
+
+    /**
+     * Returns a boolean indicating whether all soft locks were expired before the argument time.
+     * @param someTime the time before which it is asked whether all soft locks were expired
+     * @return a boolean indicating whether all soft locks were expired before the argument time
+     */
+    public boolean wereSoftLocksExpiredBefore(long someTime) {
+        if (this.softLock != null && this.softLock.getExpirationTime() >= someTime) {
+            return false;
+        }
+        if (this.moreSoftLocks != null) {
+            for (CoherenceRegionValue.SoftLock otherSoftLock : this.moreSoftLocks) {
+                if (otherSoftLock.getExpirationTime() >= someTime) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a boolean indicating whether all soft locks were released before the argument time.
+     * @param someTime the time before which it is asked whether all soft locks were released
+     * @return a boolean indicating whether all soft locks were released before the argument time
+     */
+    public boolean wereSoftLocksReleasedBefore(long someTime) {
+        return this.timeOfSoftLockRelease < someTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder(getClass().getName());
+        stringBuilder.append("(timeOfSoftLockRelease=").append(this.timeOfSoftLockRelease);
+        stringBuilder.append(", placeholder=").append(this.placeholder);
+        stringBuilder.append(", placeholderExpiry=").append(this.placeholderExpiry);
+        stringBuilder.append(", pendingLoadExpirationTime=").append(this.pendingLoadExpirationTime);
+        stringBuilder.append(", softLock=").append(this.softLock);
+        stringBuilder.append(", moreSoftLocks=").append(this.moreSoftLocks);
+        stringBuilder.append(")");
+        return stringBuilder.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        final int softLockCount = ExternalizableHelper.readInt(in);
+        for (int i = 0; i < softLockCount; i++) {
+            final CoherenceRegionValue.SoftLock nextSoftLock = new CoherenceRegionValue.SoftLock();
+            nextSoftLock.readExternal(in);
+            addSoftLock(nextSoftLock);
+        }
+        this.timeOfSoftLockRelease = ExternalizableHelper.readLong(in);
+        this.placeholder = in.readBoolean();
+        this.placeholderExpiry = ExternalizableHelper.readLong(in);
+        this.pendingLoadExpirationTime = ExternalizableHelper.readLong(in);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        final int softLockCount = ((this.softLock != null) ? 1 : 0) + ((this.moreSoftLocks != null) ? this.moreSoftLocks.size() : 0);
+        ExternalizableHelper.writeInt(out, softLockCount);
+        if (this.softLock != null) {
+            this.softLock.writeExternal(out);
+        }
+        if (this.moreSoftLocks != null) {
+            for (CoherenceRegionValue.SoftLock otherSoftLock : this.moreSoftLocks) {
+                otherSoftLock.writeExternal(out);
+            }
+        }
+        ExternalizableHelper.writeLong(out, this.timeOfSoftLockRelease);
+        out.writeBoolean(this.placeholder);
+        ExternalizableHelper.writeLong(out, this.placeholderExpiry);
+        ExternalizableHelper.writeLong(out, this.pendingLoadExpirationTime);
+    }
+
+    /**
+     * Moves the earliest-acquired of the other SoftLocks inline if the inline SoftLock was released, and drops the
+     * List of other SoftLocks once it is empty.
+     */
+    private void compact() {
+        if (this.softLock == null && this.moreSoftLocks != null && !this.moreSoftLocks.isEmpty()) {
+            this.softLock = this.moreSoftLocks.remove(0);
+        }
+        if (this.moreSoftLocks != null && this.moreSoftLocks.isEmpty()) {
+            this.moreSoftLocks = null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+/**
+ * An enum representing the different ways in which a read-write region applies the update of a cache entry once the
+ * database transaction updating it has completed (i.e. in {@code afterUpdate()}).
+ *
+ * @since 3.0.4
+ */
+public enum UpdateMode {
+
+    /**
+     * The updated value is sent to the storage member and replaces the present cache value, provided the cache value
+     * was soft-locked by a single transaction only. This is the default mode.
+     */
+    REPLACE,
+
+    /**
+     * The present cache value is invalidated and the soft lock is released on the storage member, without sending the
+     * updated value. A subsequent {@code putFromLoad()} will repopulate the cache entry. This mode saves network
+     * bandwidth and serialization cost for write-heavy regions holding large entities.
+     */
+    INVALIDATE,
+
+    /**
+     * Only the changed property slots of the updated entity's disassembled state are sent to the storage member, where
+     * they are applied to the present cache value, provided it has the version the update started from. Otherwise the
+     * present cache value is invalidated. Falls back to {@link #REPLACE} where no delta can be computed, e.g. for
+     * unversioned entities or if the previous entity state was not seen in this region.
+     */
+    DELTA
+
+}
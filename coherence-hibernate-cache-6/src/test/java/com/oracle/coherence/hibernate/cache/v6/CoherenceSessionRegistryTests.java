@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tangosol.net.Session;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class CoherenceSessionRegistryTests {
+
+    @Test
+    public void shareSessionUntilLastRelease() {
+        final String key = CoherenceSessionRegistry.getKey("shared", "test-cache-config.xml");
+        final Session session = mock(Session.class);
+        final AtomicInteger creations = new AtomicInteger();
+        final AtomicInteger shutdowns = new AtomicInteger();
+
+        assertThat(CoherenceSessionRegistry.acquire(key, () -> {
+            creations.incrementAndGet();
+            return new CoherenceSessionRegistry.Registration(session, shutdowns::incrementAndGet);
+        })).isSameAs(session);
+        assertThat(CoherenceSessionRegistry.acquire(key, () -> {
+            creations.incrementAndGet();
+            return new CoherenceSessionRegistry.Registration(mock(Session.class), shutdowns::incrementAndGet);
+        })).isSameAs(session);
+        assertThat(creations.get()).isEqualTo(1);
+        assertThat(CoherenceSessionRegistry.getReferenceCount(key)).isEqualTo(2);
+
+        assertThat(CoherenceSessionRegistry.release(key)).isFalse();
+        assertThat(shutdowns.get()).isZero();
+        assertThat(CoherenceSessionRegistry.release(key)).isTrue();
+        assertThat(shutdowns.get()).isEqualTo(1);
+        assertThat(CoherenceSessionRegistry.getReferenceCount(key)).isZero();
+        assertThat(CoherenceSessionRegistry.release(key)).isFalse();
+    }
+
+    @Test
+    public void keySessionsByNameAndConfiguration() {
+        assertThat(CoherenceSessionRegistry.getKey(null, "a.xml")).isNotEqualTo(CoherenceSessionRegistry.getKey("s", "a.xml"));
+        assertThat(CoherenceSessionRegistry.getKey("s", "a.xml")).isNotEqualTo(CoherenceSessionRegistry.getKey("s", "b.xml"));
+        assertThat(CoherenceSessionRegistry.getKey("s", "a.xml")).isEqualTo(CoherenceSessionRegistry.getKey("s", "a.xml"));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkAfterInsertProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void insertAbsentValues() {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue presentValue = new CoherenceRegionValue("bar", 1, now);
+		fooCache.put(2L, presentValue);
+
+		final Map<Object, CoherenceRegionValue> cacheValues = new LinkedHashMap<>();
+		for (long key = 1L; key <= 3L; key++) {
+			cacheValues.put(key, new CoherenceRegionValue("baz" + key, 1, now + 1L));
+		}
+		final Map<Object, Boolean> results = fooCache.invokeAll(cacheValues.keySet(), new BulkAfterInsertProcessor(cacheValues));
+
+		assertThat(results).containsEntry(1L, true).containsEntry(2L, false).containsEntry(3L, true);
+		assertThat(fooCache.get(1L)).isEqualTo(cacheValues.get(1L));
+		assertThat(fooCache.get(2L)).isEqualTo(presentValue);
+		assertThat(fooCache.get(3L)).isEqualTo(cacheValues.get(3L));
+	}
+
+	@Test
+	public void ignoreKeysWithoutValue() {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getFooCache();
+
+		final Map<Object, CoherenceRegionValue> cacheValues = new LinkedHashMap<>();
+		cacheValues.put(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+		assertThat(fooCache.<Boolean>invoke(2L, new BulkAfterInsertProcessor(cacheValues))).isFalse();
+		assertThat(fooCache.containsKey(2L)).isFalse();
+	}
+
+	private NamedCache<Object, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Object, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		return fooCache;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.time.Instant;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GetProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void missWithoutPendingLoadMarker() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+		assertThat(fooCache.containsKey(1L)).isFalse();
+	}
+
+	@Test
+	public void waitForPendingLoad() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now, 60000L))).isNull();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now + 1L, 60000L))).isEqualTo(GetProcessor.Result.PENDING_LOAD);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+
+		final ReadWritePutFromLoadProcessor putFromLoadProcessor = new ReadWritePutFromLoadProcessor(true, now + 2L,
+				new CoherenceRegionValue("bar", 1, now + 2L), null);
+		assertThat(fooCache.<Boolean>invoke(1L, putFromLoadProcessor)).isTrue();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now + 3L, 60000L))).isEqualTo("bar");
+	}
+
+	@Test
+	public void takeOverExpiredPendingLoad() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now, 100L))).isNull();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now + 200L, 100L))).isNull();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now + 201L, 100L))).isEqualTo(GetProcessor.Result.PENDING_LOAD);
+	}
+
+	@Test
+	public void expireAbandonedPendingLoadMarker() throws InterruptedException {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now, 500L))).isNull();
+		assertThat(fooCache.containsKey(1L)).isTrue();
+
+		Thread.sleep(1500L);
+		assertThat(fooCache.containsKey(1L)).isFalse();
+	}
+
+	@Test
+	public void doNotWaitForSoftLockedValue() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now, 60000L))).isNull();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor(now + 1L, 60000L))).isNull();
+	}
+
+	private NamedCache<Long, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		return fooCache;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.CoherenceRegionFactory;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegion;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.RegionLock;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegionLockProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void countHoldersOfRegionLock() {
+
+		final NamedCache<String, Object> metadataCache = getMetadataCache();
+
+		final long now = Instant.now().toEpochMilli();
+		assertThat(metadataCache.invoke("foo", new RegionLockProcessor(now, 1000L))).isEqualTo(new RegionLock(1, now + 1000L));
+		assertThat(metadataCache.invoke("foo", new RegionLockProcessor(now + 10L, 1000L))).isEqualTo(new RegionLock(2, now + 1010L));
+		assertThat(metadataCache.invoke("foo", new RegionLockProcessor(now + 20L, 0L))).isEqualTo(new RegionLock(1, now + 1010L));
+		assertThat(((RegionLock) metadataCache.get("foo")).isLockedAt(now + 20L)).isTrue();
+
+		assertThat(metadataCache.invoke("foo", new RegionLockProcessor(now + 30L, 0L))).isEqualTo(new RegionLock(0, 0L, now + 30L));
+		assertThat(metadataCache.get("foo")).isEqualTo(new RegionLock(0, 0L, now + 30L));
+		assertThat(((RegionLock) metadataCache.get("foo")).getReleaseTime()).isEqualTo(now + 30L);
+		assertThat(metadataCache.invoke("foo", new RegionLockProcessor(now + 40L, 0L))).isEqualTo(new RegionLock(0, 0L, now + 40L));
+	}
+
+	@Test
+	public void discardExpiredRegionLock() {
+
+		final NamedCache<String, Object> metadataCache = getMetadataCache();
+
+		final long now = Instant.now().toEpochMilli();
+		metadataCache.invoke("foo", new RegionLockProcessor(now, 1000L));
+		assertThat(((RegionLock) metadataCache.get("foo")).isLockedAt(now + 1000L)).isFalse();
+		//the release time of a lock which expired while held is its expiration time
+		assertThat(metadataCache.invoke("foo", new RegionLockProcessor(now + 2000L, 1000L))).isEqualTo(new RegionLock(1, now + 3000L, now + 1000L));
+	}
+
+	@Test
+	public void lockRegion() {
+
+		final NamedCache<String, Object> metadataCache = getMetadataCache();
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				return metadataCache;
+			}
+		};
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		final Map<String, Object> properties = new HashMap<>();
+		properties.put(CoherenceRegion.REGION_LOCKING_PROPERTY_NAME, "true");
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, properties, "foo");
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+
+		assertThat(region.isLocked()).isFalse();
+		assertThat(metadataCache.get("foo#lock")).isEqualTo(RegionLock.UNLOCKED);
+		region.lockCache();
+		region.lockCache();
+		assertThat(region.isLocked()).isTrue();
+		assertThat(fooCache.containsKey(1L)).isTrue();
+		region.unlockCache();
+		assertThat(region.isLocked()).isTrue();
+		region.unlockCache();
+		assertThat(region.isLocked()).isFalse();
+		assertThat(region.getRegionLock().getHoldCount()).isZero();
+		assertThat(region.getRegionLock().getReleaseTime()).isPositive();
+	}
+
+	@Test
+	public void ignoreRegionLockUnlessEnabled() {
+
+		final NamedCache<String, Object> metadataCache = getMetadataCache();
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				return metadataCache;
+			}
+		};
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> null, Collections.emptyMap(), "foo");
+
+		region.lockCache();
+		assertThat(region.isLocked()).isFalse();
+		assertThat(metadataCache.containsKey("foo#lock")).isFalse();
+	}
+
+	@Test
+	public void considerRegionUnlockedIfMetadataCacheIsUnavailable() {
+
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				throw new IllegalStateException("No scheme for cache " + REGION_METADATA_CACHE_NAME);
+			}
+		};
+		final Map<String, Object> properties = new HashMap<>();
+		properties.put(CoherenceRegion.REGION_LOCKING_PROPERTY_NAME, "true");
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> null, properties, "foo");
+
+		assertThat(region.isLocked()).isFalse();
+	}
+
+	private NamedCache<String, Object> getMetadataCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<String, Object> metadataCache = factory.ensureCache(CoherenceRegionFactory.REGION_METADATA_CACHE_NAME, null);
+		metadataCache.clear();
+		return metadataCache;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.time.Instant;
+
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.SoftLockState;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.ExternalizableHelper;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SoftLockItemProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void lockAndUnlockPresentValue() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue coherenceRegionValue = new CoherenceRegionValue("bar", 1, now);
+		fooCache.put(1L, coherenceRegionValue);
+
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+		assertThat(fooCache.get(1L)).isEqualTo(coherenceRegionValue);
+
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock, now + 1L));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+		assertThat(fooCache.get(1L)).isEqualTo(coherenceRegionValue);
+	}
+
+	@Test
+	public void lockAbsentValue() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(new CoherenceRegionValue(null, 1, now), softLock));
+		assertThat(fooCache.size()).isEqualTo(1);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+
+		final ReadWritePutFromLoadProcessor putFromLoadProcessor = new ReadWritePutFromLoadProcessor(false, now + 1L,
+				new CoherenceRegionValue("bar", 1, now + 1L), null);
+		assertThat(fooCache.<Boolean>invoke(1L, putFromLoadProcessor)).isFalse();
+
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock, now + 2L));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+	}
+
+	@Test
+	public void serializeSoftLockStateAlongWithValue() {
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue coherenceRegionValue = new CoherenceRegionValue("bar", null, now);
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		coherenceRegionValue.addSoftLock(softLock);
+
+		final CoherenceRegionValue deserialized = (CoherenceRegionValue) ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(coherenceRegionValue));
+		assertThat(deserialized).isEqualTo(coherenceRegionValue);
+		assertThat(deserialized.isSoftLocked()).isTrue();
+
+		deserialized.releaseSoftLock(softLock, now + 1L);
+		final CoherenceRegionValue released = (CoherenceRegionValue) ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(deserialized));
+		assertThat(released.isSoftLocked()).isFalse();
+		assertThat(released.isReplaceableFromLoad(now + 2L, null, null)).isTrue();
+		assertThat(released.isReplaceableFromLoad(now, null, null)).isFalse();
+	}
+
+	@Test
+	public void keepPlaceholderSoftLockState() {
+
+		final SoftLockState softLockState = new SoftLockState();
+		assertThat(softLockState.isEmpty()).isTrue();
+		softLockState.setPlaceholder(true);
+		assertThat(softLockState.isEmpty()).isFalse();
+
+		final SoftLockState expiringSoftLockState = new SoftLockState();
+		expiringSoftLockState.setPlaceholderExpiry(60000L);
+		assertThat(expiringSoftLockState.isEmpty()).isFalse();
+	}
+
+	@Test
+	public void releaseConcurrentSoftLocksInAnyOrder() {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		fooCache.put(1L, new CoherenceRegionValue("bar", 1, now));
+
+		final CoherenceRegionValue.SoftLock softLock1 = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		final CoherenceRegionValue.SoftLock softLock2 = new CoherenceRegionValue.SoftLock(1, 2L, now + 60000L);
+		final CoherenceRegionValue.SoftLock softLock3 = new CoherenceRegionValue.SoftLock(2, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock1));
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock2));
+		fooCache.invoke(1L, new SoftLockItemProcessor(null, softLock3));
+
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock2, now + 1L));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock1, now + 2L));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock1, now + 3L));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isNull();
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock3, now + 4L));
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+	}
+
+	@Test
+	public void expireReleasedPlaceholder() throws InterruptedException {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(new CoherenceRegionValue(null, 1, now), softLock, 500L));
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock, now + 1L));
+		assertThat(fooCache.containsKey(1L)).isTrue();
+
+		Thread.sleep(1500L);
+		assertThat(fooCache.containsKey(1L)).isFalse();
+	}
+
+	@Test
+	public void doNotExpireRepopulatedPlaceholder() throws InterruptedException {
+
+		final NamedCache<Long, CoherenceRegionValue> fooCache = getFooCache();
+
+		final long now = Instant.now().toEpochMilli();
+		final CoherenceRegionValue.SoftLock softLock = new CoherenceRegionValue.SoftLock(1, 1L, now + 60000L);
+		fooCache.invoke(1L, new SoftLockItemProcessor(new CoherenceRegionValue(null, null, now), softLock, 500L));
+		fooCache.invoke(1L, new SoftUnlockItemProcessor(softLock, now + 1L));
+
+		final ReadWritePutFromLoadProcessor putFromLoadProcessor = new ReadWritePutFromLoadProcessor(false, now + 2L,
+				new CoherenceRegionValue("bar", null, now + 2L), null);
+		assertThat(fooCache.<Boolean>invoke(1L, putFromLoadProcessor)).isTrue();
+
+		Thread.sleep(1500L);
+		assertThat(fooCache.<Object>invoke(1L, new GetProcessor())).isEqualTo("bar");
+	}
+
+	private NamedCache<Long, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		return fooCache;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.access.processor;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import com.oracle.coherence.hibernate.cache.v6.CoherenceRegionFactory;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegion;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegionValue;
+import com.oracle.coherence.hibernate.cache.v6.region.TaskLease;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskLeaseProcessorTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void grantTaskLeaseToSingleHolder() {
+
+		final NamedCache<String, Object> metadataCache = getMetadataCache();
+
+		final long now = Instant.now().toEpochMilli();
+		assertThat(metadataCache.<Boolean>invoke("foo", new TaskLeaseProcessor("a", now, 1000L))).isTrue();
+		assertThat(metadataCache.<Boolean>invoke("foo", new TaskLeaseProcessor("b", now + 10L, 1000L))).isFalse();
+		assertThat(metadataCache.<Boolean>invoke("foo", new TaskLeaseProcessor("a", now + 20L, 1000L))).isTrue();
+		assertThat(metadataCache.get("foo")).isEqualTo(new TaskLease("a", now + 1020L));
+
+		assertThat(metadataCache.<Boolean>invoke("foo", new TaskLeaseProcessor("b", now + 1020L, 1000L))).isTrue();
+		assertThat(metadataCache.<Boolean>invoke("foo", new TaskLeaseProcessor("a", now + 1030L, 1000L))).isFalse();
+	}
+
+	@Test
+	public void acquireTaskLeaseOfRegion() {
+
+		final NamedCache<String, Object> metadataCache = getMetadataCache();
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				return metadataCache;
+			}
+		};
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Long, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, Collections.emptyMap(), "foo");
+		final CoherenceRegion otherRegion = new CoherenceRegion(regionFactory, "foo", () -> fooCache, Collections.emptyMap(), "foo");
+
+		assertThat(region.acquireTaskLease("sweep", 60000L)).isTrue();
+		assertThat(otherRegion.acquireTaskLease("sweep", 60000L)).isFalse();
+		assertThat(otherRegion.acquireTaskLease("snapshot", 60000L)).isTrue();
+		assertThat(region.acquireTaskLease("sweep", 60000L)).isTrue();
+	}
+
+	private NamedCache<String, Object> getMetadataCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<String, Object> metadataCache = factory.ensureCache(CoherenceRegionFactory.REGION_METADATA_CACHE_NAME, null);
+		metadataCache.clear();
+		return metadataCache;
+	}
+}
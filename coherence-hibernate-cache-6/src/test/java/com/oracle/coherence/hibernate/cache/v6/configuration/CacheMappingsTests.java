@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.configuration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.configuration.support.CacheMappings;
+import com.oracle.coherence.hibernate.cache.v6.configuration.support.RegionCacheSettings;
+import com.oracle.coherence.hibernate.cache.v6.region.CoherenceRegion;
+import com.oracle.coherence.hibernate.cache.v6.region.RegionType;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.ExtensibleConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.cache.LocalCache;
+import com.tangosol.net.cache.NearCache;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test covering {@link CacheMappings}.
+ */
+public class CacheMappingsTests {
+
+    @AfterAll
+    public static void after() {
+        CacheFactory.shutdown();
+    }
+
+    @Test
+    public void remapWildcardMapping() {
+        final ConfigurableCacheFactory cacheFactory = getCacheFactory();
+
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "isolated-entity", RegionType.ENTITY.getSchemeName())).isTrue();
+        assertThat(getSchemeName(cacheFactory, "isolated-entity")).isEqualTo(RegionType.ENTITY.getSchemeName());
+        assertThat(cacheFactory.ensureCache("isolated-entity", null).getCacheService().getInfo().getServiceName())
+                .isEqualTo("TestHibernateSecondLevelCacheEntities");
+    }
+
+    @Test
+    public void keepExplicitMapping() {
+        final ConfigurableCacheFactory cacheFactory = getCacheFactory();
+
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "org.hibernate.cache.spi.UpdateTimestampsCache",
+                RegionType.TIMESTAMPS.getSchemeName())).isFalse();
+        assertThat(getSchemeName(cacheFactory, "org.hibernate.cache.spi.UpdateTimestampsCache"))
+                .isEqualTo("hibernate-second-level-cache-near-scheme");
+    }
+
+    @Test
+    public void keepNearTopology() {
+        final ConfigurableCacheFactory cacheFactory = getCacheFactory();
+
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "query.isolated", RegionType.ENTITY.getSchemeName())).isFalse();
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "query.isolated", RegionType.QUERY_RESULTS.getSchemeName())).isTrue();
+        assertThat(getSchemeName(cacheFactory, "query.isolated")).isEqualTo(RegionType.QUERY_RESULTS.getSchemeName());
+    }
+
+    @Test
+    public void keepMappingWithoutScheme() {
+        final ConfigurableCacheFactory cacheFactory = getCacheFactory();
+
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "not-isolated", "no-such-scheme")).isFalse();
+        assertThat(getSchemeName(cacheFactory, "not-isolated")).isEqualTo("hibernate-second-level-cache-distributed-scheme");
+    }
+
+    @Test
+    public void tuneWildcardMapping() {
+        final ConfigurableCacheFactory cacheFactory = getCacheFactory();
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(CoherenceRegion.getRegionPropertyName("tuned-entity", RegionCacheSettings.SCHEME_SETTING_NAME), "near");
+        properties.put(CoherenceRegion.getRegionPropertyName("tuned-entity", RegionCacheSettings.HIGH_UNITS_SETTING_NAME), "5");
+        properties.put(CoherenceRegion.getRegionPropertyName("tuned-entity", RegionCacheSettings.EXPIRY_DELAY_SETTING_NAME), "1m");
+        properties.put(CoherenceRegion.getRegionPropertyName("tuned-entity", RegionCacheSettings.NEAR_HIGH_UNITS_SETTING_NAME), "50");
+
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "tuned-entity", RegionType.ENTITY.getSchemeName(),
+                RegionCacheSettings.getRegionCacheSettings("tuned-entity", properties))).isTrue();
+        assertThat(getSchemeName(cacheFactory, "tuned-entity")).isEqualTo(CacheMappings.NEAR_SCHEME_NAME);
+
+        final NamedCache<Object, Object> cache = cacheFactory.ensureCache("tuned-entity", null);
+        cache.put(1L, "one");
+        assertThat(cache).isInstanceOf(NearCache.class);
+        assertThat(((LocalCache) ((NearCache) cache).getFrontMap()).getHighUnits()).isEqualTo(50);
+        final LocalCache backingMap = (LocalCache) ((CacheService) cache.getCacheService()).getBackingMapManager().getContext()
+                .getBackingMapContext("tuned-entity").getBackingMap();
+        assertThat(backingMap.getHighUnits()).isEqualTo(5);
+        assertThat(backingMap.getExpiryDelay()).isEqualTo(60000);
+    }
+
+    @Test
+    public void ignoreSettingsOfExplicitMapping() {
+        final ConfigurableCacheFactory cacheFactory = getCacheFactory();
+
+        final RegionCacheSettings settings = RegionCacheSettings.getRegionCacheSettings("org.hibernate.cache.spi.UpdateTimestampsCache",
+                Collections.<String, Object>singletonMap(CoherenceRegion.getRegionPropertyName("org.hibernate.cache.spi.UpdateTimestampsCache",
+                        RegionCacheSettings.HIGH_UNITS_SETTING_NAME), "5"));
+
+        assertThat(CacheMappings.remapSharedCacheMapping(cacheFactory, "org.hibernate.cache.spi.UpdateTimestampsCache", null, settings))
+                .isFalse();
+    }
+
+    @Test
+    public void ignoreInvalidSettings() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(CoherenceRegion.getRegionPropertyName("invalid", RegionCacheSettings.SCHEME_SETTING_NAME), "replicated");
+        properties.put(CoherenceRegion.getRegionPropertyName("invalid", RegionCacheSettings.HIGH_UNITS_SETTING_NAME), "-1");
+
+        assertThat(RegionCacheSettings.getRegionCacheSettings("invalid", properties)).isNull();
+
+        properties.put(CoherenceRegion.getRegionPropertyName("invalid", RegionCacheSettings.EXPIRY_DELAY_SETTING_NAME), "2s");
+
+        final RegionCacheSettings settings = RegionCacheSettings.getRegionCacheSettings("invalid", properties);
+        assertThat(settings.getNearCache()).isNull();
+        assertThat(settings.getHighUnits()).isNull();
+        assertThat(settings.getSchemeParameters()).containsOnly(entry("back-tier-expiry-delay", "2000ms"));
+    }
+
+    private ConfigurableCacheFactory getCacheFactory() {
+        return CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+                getClass().getClassLoader());
+    }
+
+    private static String getSchemeName(ConfigurableCacheFactory cacheFactory, String cacheName) {
+        return ((ExtensibleConfigurableCacheFactory) cacheFactory).getCacheConfig().getMappingRegistry()
+                .findCacheMapping(cacheName).getSchemeName();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterTimestamperTests {
+
+	@Test
+	public void extendClusterTimeByElapsedNanos() {
+		final AtomicLong clusterTime = new AtomicLong(1000L);
+		final AtomicLong nanoTime = new AtomicLong(0L);
+		final ClusterTimestamper timestamper = new ClusterTimestamper(clusterTime::get, nanoTime::get, 1_000_000_000L);
+
+		assertThat(timestamper.next()).isEqualTo(1000L * ClusterTimestamper.ONE_MS);
+		nanoTime.set(250_000L);
+		clusterTime.set(5000L);
+		assertThat(timestamper.next()).isEqualTo(1000L * ClusterTimestamper.ONE_MS + ClusterTimestamper.ONE_MS / 4L);
+		assertThat(ClusterTimestamper.toMillis(timestamper.next())).isEqualTo(1000L);
+
+		nanoTime.set(1_000_000_000L);
+		assertThat(timestamper.next()).isEqualTo(ClusterTimestamper.fromMillis(5000L));
+	}
+
+	@Test
+	public void neverGoBackwards() {
+		final AtomicLong clusterTime = new AtomicLong(1000L);
+		final AtomicLong nanoTime = new AtomicLong(0L);
+		final ClusterTimestamper timestamper = new ClusterTimestamper(clusterTime::get, nanoTime::get, 1_000_000L);
+
+		final long first = timestamper.next();
+		assertThat(timestamper.next()).isEqualTo(first + 1L);
+
+		nanoTime.set(1_000_000L);
+		clusterTime.set(900L);
+		assertThat(timestamper.next()).isEqualTo(first + 2L);
+	}
+
+	@Test
+	public void followClusterTime() {
+		final ClusterTimestamper timestamper = new ClusterTimestamper(System::currentTimeMillis);
+		final long before = System.currentTimeMillis();
+		final long timestamp = timestamper.next();
+		assertThat(ClusterTimestamper.toMillis(timestamp)).isBetween(before, System.currentTimeMillis());
+		assertThat(timestamper.next()).isGreaterThan(timestamp);
+	}
+}
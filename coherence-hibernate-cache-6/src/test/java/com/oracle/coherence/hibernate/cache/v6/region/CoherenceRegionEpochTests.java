@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.CoherenceRegionFactory;
+import com.oracle.coherence.hibernate.cache.v6.access.processor.GetProcessor;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoherenceRegionEpochTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void invalidateRegionByEpoch() throws Exception {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getCache("foo");
+		final CoherenceRegion region = newRegion(fooCache, "foo", false);
+		assertThat(region.isEpochInvalidation()).isTrue();
+		assertThat(region.getEpoch()).isZero();
+
+		final long now = Instant.now().toEpochMilli();
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, now));
+		region.putValue(2L, new CoherenceRegionValue("baz", 1, now));
+		assertThat(fooCache.containsKey(new EpochKey(0L, 1L))).isTrue();
+		assertThat(((CoherenceRegionValue) region.getValue(1L)).getValue()).isEqualTo("bar");
+		assertThat(region.invoke(1L, new GetProcessor())).isEqualTo("bar");
+		assertThat(region.invokeAll(Arrays.asList(1L, 2L), new GetProcessor())).containsOnlyKeys(1L, 2L);
+		assertThat(region.getElementCountInMemory()).isEqualTo(2L);
+
+		region.evictAll();
+		assertThat(region.getEpoch()).isEqualTo(1L);
+		assertThat(region.contains(1L)).isFalse();
+		assertThat(region.getValue(1L)).isNull();
+		assertThat(region.getElementCountInMemory()).isZero();
+
+		region.putValue(1L, new CoherenceRegionValue("qux", 2, now));
+		assertThat(((CoherenceRegionValue) region.getValue(1L)).getValue()).isEqualTo("qux");
+		assertThat(region.getElementCountInMemory()).isEqualTo(1L);
+		awaitSize(fooCache, 1);
+		assertThat(fooCache.containsKey(new EpochKey(1L, 1L))).isTrue();
+	}
+
+	@Test
+	public void invalidateMultiplexedRegionByEpoch() throws Exception {
+
+		final NamedCache<Object, CoherenceRegionValue> sharedCache = getCache("shared");
+		final CoherenceRegion barRegion = newRegion(sharedCache, "bar", true);
+		final CoherenceRegion bazRegion = newRegion(sharedCache, "baz", true);
+
+		final long now = Instant.now().toEpochMilli();
+		barRegion.putValue(1L, new CoherenceRegionValue("bar", 1, now));
+		bazRegion.putValue(1L, new CoherenceRegionValue("baz", 1, now));
+		bazRegion.putValue(2L, new CoherenceRegionValue("baz", 1, now));
+		assertThat(sharedCache.containsKey(new MultiplexedKey("baz", new EpochKey(0L, 2L)))).isTrue();
+
+		bazRegion.evictAll();
+		assertThat(bazRegion.getElementCountInMemory()).isZero();
+		assertThat(bazRegion.contains(1L)).isFalse();
+		assertThat(barRegion.getEpoch()).isZero();
+		assertThat(barRegion.contains(1L)).isTrue();
+		awaitSize(sharedCache, 1);
+		assertThat(sharedCache.containsKey(new MultiplexedKey("bar", new EpochKey(0L, 1L)))).isTrue();
+	}
+
+	@Test
+	public void assignAcquirerIdsFromRegionMetadata() {
+
+		final CoherenceRegion barRegion = newRegion(getCache("bar"), "bar", false);
+		final CoherenceRegion bazRegion = newRegion(getCache("baz"), "baz", false);
+
+		final long acquirerId = barRegion.nextAcquirerId();
+		assertThat(acquirerId).isNotEqualTo(CoherenceRegionValue.SoftLock.UNASSIGNED_ACQUIRER_ID);
+		assertThat(bazRegion.nextAcquirerId()).isEqualTo(acquirerId + 1L);
+		assertThat(barRegion.nextAcquirerId()).isEqualTo(acquirerId + 2L);
+	}
+
+	private static void awaitSize(NamedCache<?, ?> cache, int size) throws InterruptedException {
+		for (int i = 0; i < 100 && cache.size() != size; i++) {
+			Thread.sleep(50L);
+		}
+		assertThat(cache.size()).isEqualTo(size);
+	}
+
+	private CoherenceRegion newRegion(NamedCache<Object, CoherenceRegionValue> cache, String regionName, boolean multiplexed) {
+		final Map<String, Object> properties = new HashMap<>();
+		properties.put(CoherenceRegion.EPOCH_INVALIDATION_PROPERTY_NAME, "true");
+		if (multiplexed) {
+			properties.put(CoherenceRegion.MULTIPLEXED_REGIONS_PROPERTY_NAME, "*");
+		}
+		final NamedCache<String, Object> metadataCache = getCache(CoherenceRegionFactory.REGION_METADATA_CACHE_NAME);
+		metadataCache.remove(regionName);
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				return metadataCache;
+			}
+		};
+		return new CoherenceRegion(regionFactory, regionName, () -> cache, properties, regionName);
+	}
+
+	private <K, V> NamedCache<K, V> getCache(String cacheName) {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<K, V> cache = factory.ensureCache(cacheName, null);
+		if (!CoherenceRegionFactory.REGION_METADATA_CACHE_NAME.equals(cacheName)) {
+			cache.clear();
+		}
+		return cache;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.oracle.coherence.hibernate.cache.v6.CoherenceRegionFactory;
+import com.oracle.coherence.hibernate.cache.v6.access.processor.GetProcessor;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoherenceRegionMultiplexingTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void selectMultiplexedRegions() {
+		final Map<String, Object> properties = new HashMap<>();
+		assertThat(CoherenceRegion.isMultiplexedRegion(properties, "bar")).isFalse();
+		assertThat(CoherenceRegion.getMultiplexedCacheName(properties)).isEqualTo(CoherenceRegion.DEFAULT_MULTIPLEXED_CACHE_NAME);
+
+		properties.put(CoherenceRegion.MULTIPLEXED_REGIONS_PROPERTY_NAME, "bar, baz");
+		assertThat(CoherenceRegion.isMultiplexedRegion(properties, "bar")).isTrue();
+		assertThat(CoherenceRegion.isMultiplexedRegion(properties, "baz")).isTrue();
+		assertThat(CoherenceRegion.isMultiplexedRegion(properties, "qux")).isFalse();
+
+		properties.put(CoherenceRegion.MULTIPLEXED_REGIONS_PROPERTY_NAME, "*");
+		assertThat(CoherenceRegion.isMultiplexedRegion(properties, "qux")).isTrue();
+	}
+
+	@Test
+	public void keepRegionsApart() {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getFooCache();
+		final CoherenceRegion barRegion = newMultiplexedRegion(fooCache, "bar");
+		final CoherenceRegion bazRegion = newMultiplexedRegion(fooCache, "baz");
+
+		final long now = Instant.now().toEpochMilli();
+		barRegion.putValue(1L, new CoherenceRegionValue("bar", 1, now));
+		bazRegion.putValue(1L, new CoherenceRegionValue("baz", 1, now));
+		bazRegion.putValue(2L, new CoherenceRegionValue("baz", 1, now));
+
+		assertThat(fooCache.size()).isEqualTo(3);
+		assertThat(fooCache.containsKey(new MultiplexedKey("bar", 1L))).isTrue();
+		assertThat(((CoherenceRegionValue) barRegion.getValue(1L)).getValue()).isEqualTo("bar");
+		assertThat(barRegion.invoke(1L, new GetProcessor())).isEqualTo("bar");
+		assertThat(bazRegion.invokeAll(Arrays.asList(1L, 2L), new GetProcessor())).containsOnlyKeys(1L, 2L);
+		assertThat(barRegion.getElementCountInMemory()).isEqualTo(1L);
+		assertThat(bazRegion.getElementCountInMemory()).isEqualTo(2L);
+
+		bazRegion.evictAll();
+		assertThat(bazRegion.getElementCountInMemory()).isZero();
+		assertThat(barRegion.contains(1L)).isTrue();
+		assertThat(fooCache.size()).isEqualTo(1);
+	}
+
+	private CoherenceRegion newMultiplexedRegion(NamedCache<Object, CoherenceRegionValue> cache, String regionName) {
+		final Map<String, Object> properties = Collections.singletonMap(CoherenceRegion.MULTIPLEXED_REGIONS_PROPERTY_NAME, "*");
+		return new CoherenceRegion(new CoherenceRegionFactory(), regionName, () -> cache, properties, regionName);
+	}
+
+	private NamedCache<Object, CoherenceRegionValue> getFooCache() {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<Object, CoherenceRegionValue> fooCache = factory.ensureCache("foo", null);
+		fooCache.clear();
+		fooCache.addIndex(MultiplexedKey.REGION_NAME_EXTRACTOR, false, null);
+		return fooCache;
+	}
+}
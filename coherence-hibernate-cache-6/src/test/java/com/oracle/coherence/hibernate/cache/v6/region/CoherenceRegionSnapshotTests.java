@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * https://oss.oracle.com/licenses/upl.
+ */
+package com.oracle.coherence.hibernate.cache.v6.region;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+
+import com.oracle.coherence.hibernate.cache.v6.CoherenceRegionFactory;
+import com.oracle.coherence.hibernate.cache.v6.access.processor.SoftLockItemProcessor;
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.ConfigurableCacheFactory;
+import com.tangosol.net.NamedCache;
+import com.tangosol.util.BinaryEntry;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoherenceRegionSnapshotTests {
+
+	@AfterClass
+	public static void after() {
+		CacheFactory.shutdown();
+	}
+
+	@Test
+	public void restoreRegionFromSnapshotFile() throws Exception {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getCache("foo");
+		final CoherenceRegion region = new CoherenceRegion(new CoherenceRegionFactory(), fooCache, new HashMap<>());
+
+		final long now = Instant.now().toEpochMilli();
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, now));
+		region.putValue(2L, new CoherenceRegionValue("baz", 1, now));
+		region.putValue(3L, new CoherenceRegionValue("qux", 1, now));
+		region.invoke(3L, new SoftLockItemProcessor(null, new CoherenceRegionValue.SoftLock(1, 1L, Long.MAX_VALUE)));
+
+		final long before = region.nextTimestamp();
+		final Path file = Files.createTempDirectory("region-snapshots").resolve("foo.snapshot");
+		assertThat(region.writeSnapshot(file, true).size()).isEqualTo(2);
+
+		final RegionSnapshot snapshot = RegionSnapshot.readFrom(file);
+		assertThat(snapshot.getSnapshotTime()).isGreaterThan(before);
+		assertThat(snapshot.size()).isEqualTo(2);
+		assertThat(snapshot.isFinal()).isTrue();
+		assertThat(RegionSnapshot.readFrom(file.resolveSibling("bar.snapshot"))).isNull();
+
+		assertThat(region.restoreSnapshot(snapshot)).isZero();
+
+		fooCache.clear();
+		assertThat(region.restoreSnapshot(snapshot)).isEqualTo(2);
+		assertThat(((CoherenceRegionValue) region.getValue(1L)).getValue()).isEqualTo("bar");
+		assertThat(((CoherenceRegionValue) region.getValue(2L)).getValue()).isEqualTo("baz");
+		assertThat(region.getValue(3L)).isNull();
+	}
+
+	@Test
+	public void restoreRegionWithTimeToLive() throws Exception {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getCache("foo");
+		final CoherenceRegion region = new CoherenceRegion(new CoherenceRegionFactory(), fooCache, new HashMap<>());
+
+		final long now = Instant.now().toEpochMilli();
+		for (long key = 0L; key < 2500L; key++) {
+			region.putValue(key, new CoherenceRegionValue("bar" + key, 1, now));
+		}
+		final Path file = Files.createTempDirectory("region-snapshots").resolve("foo.snapshot");
+		region.writeSnapshot(file, true);
+
+		fooCache.clear();
+		region.setTimeToLive(60000L);
+		assertThat(region.restoreSnapshot(RegionSnapshot.readFrom(file))).isEqualTo(2500L);
+		assertThat(fooCache.size()).isEqualTo(2500);
+		assertThat(((CoherenceRegionValue) region.getValue(2499L)).getValue()).isEqualTo("bar2499");
+
+		final Long expiry = fooCache.invoke(1L, (entry) -> ((BinaryEntry<Object, CoherenceRegionValue>) entry).getExpiry());
+		assertThat(expiry).isBetween(1L, 60000L);
+	}
+
+	@Test
+	public void discardSnapshotTakenBeforeInvalidation() throws Exception {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getCache("foo");
+		final NamedCache<String, Object> metadataCache = getCache(CoherenceRegionFactory.REGION_METADATA_CACHE_NAME);
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				return metadataCache;
+			}
+		};
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, new HashMap<>(), "foo");
+		region.recordInvalidations();
+
+		final long now = Instant.now().toEpochMilli();
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, now));
+		region.putValue(2L, new CoherenceRegionValue("baz", 1, now));
+		final Path file = Files.createTempDirectory("region-snapshots").resolve("foo.snapshot");
+		final RegionSnapshot snapshot = region.writeSnapshot(file, false);
+
+		region.evict(2L);
+		assertThat(metadataCache.get("foo#invalidated")).isInstanceOf(Long.class);
+		fooCache.clear();
+		assertThat(region.restoreSnapshot(snapshot)).isZero();
+		assertThat(region.getValue(1L)).isNull();
+
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, now));
+		final RegionSnapshot laterSnapshot = region.writeSnapshot(file, false);
+		fooCache.clear();
+		assertThat(region.restoreSnapshot(laterSnapshot)).isEqualTo(1L);
+		assertThat(((CoherenceRegionValue) region.getValue(1L)).getValue()).isEqualTo("bar");
+		assertThat(region.getValue(2L)).isNull();
+	}
+
+	@Test
+	public void discardNonFinalSnapshotWithoutRecordedInvalidation() throws Exception {
+
+		final NamedCache<Object, CoherenceRegionValue> fooCache = getCache("foo");
+		final NamedCache<String, Object> metadataCache = getCache(CoherenceRegionFactory.REGION_METADATA_CACHE_NAME);
+		final CoherenceRegionFactory regionFactory = new CoherenceRegionFactory() {
+			@Override
+			public NamedCache<String, Object> ensureRegionMetadataCache() {
+				return metadataCache;
+			}
+		};
+		final CoherenceRegion region = new CoherenceRegion(regionFactory, "foo", () -> fooCache, new HashMap<>(), "foo");
+		region.recordInvalidations();
+
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+		final Path file = Files.createTempDirectory("region-snapshots").resolve("foo.snapshot");
+		final RegionSnapshot snapshot = region.writeSnapshot(file, false);
+		assertThat(RegionSnapshot.readFrom(file).isFinal()).isFalse();
+
+		fooCache.clear();
+		assertThat(metadataCache.get("foo#invalidated")).isNull();
+		assertThat(region.restoreSnapshot(snapshot)).isZero();
+		assertThat(region.getValue(1L)).isNull();
+
+		region.putValue(1L, new CoherenceRegionValue("bar", 1, Instant.now().toEpochMilli()));
+		assertThat(region.isOnlyServiceMember()).isTrue();
+		final RegionSnapshot finalSnapshot = region.writeSnapshot(file, true);
+		fooCache.clear();
+		assertThat(region.restoreSnapshot(finalSnapshot)).isEqualTo(1L);
+		assertThat(((CoherenceRegionValue) region.getValue(1L)).getValue()).isEqualTo("bar");
+	}
+
+	@Test
+	public void rejectCorruptSnapshotFile() throws Exception {
+
+		final Path file = Files.createTempDirectory("region-snapshots").resolve("foo.snapshot");
+		Files.write(file, new byte[] {1, 2, 3});
+
+		assertThatThrownBy(() -> RegionSnapshot.readFrom(file)).isInstanceOf(IOException.class);
+	}
+
+	private <K, V> NamedCache<K, V> getCache(String cacheName) {
+		final ConfigurableCacheFactory factory = CacheFactory.getCacheFactoryBuilder().getConfigurableCacheFactory("tests-hibernate-second-level-cache-config.xml",
+				getClass().getClassLoader());
+		final NamedCache<K, V> cache = factory.ensureCache(cacheName, null);
+		cache.clear();
+		return cache;
+	}
+}